@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.antlr;
+
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Two-stage parsing by ANTLR parser. The query is parsed in SLL prediction mode first, which is
+ * much faster and enough for almost all valid queries. Only if it fails, the query is parsed
+ * again in full LL prediction mode, which reports the syntax error if the query is invalid.
+ */
+@UtilityClass
+public class TwoStageParser {
+
+  /**
+   * Parse by the start rule of the parser.
+   *
+   * @param parser    ANTLR parser without error listener added
+   * @param startRule start rule of the grammar
+   * @return parse tree root
+   */
+  public static <P extends org.antlr.v4.runtime.Parser> ParseTree parse(
+      P parser, Function<P, ParseTree> startRule) {
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new BailErrorStrategy());
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    try {
+      return startRule.apply(parser);
+    } catch (ParseCancellationException e) {
+      parser.reset();
+      parser.addErrorListener(new SyntaxAnalysisErrorListener());
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return startRule.apply(parser);
+    }
+  }
+}
@@ -39,6 +39,11 @@ public abstract class Settings {
      */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SORT_SPILL_THRESHOLD("plugins.query.sort.spill_threshold"),
+    QUERY_AGGREGATION_SPILL_THRESHOLD("plugins.query.aggregation.spill_threshold"),
+    QUERY_AGGREGATION_BUCKET_SIZE("plugins.query.aggregation.bucket_size"),
+    QUERY_SCROLL_SLICES("plugins.query.scroll.slices"),
+    QUERY_SCROLL_PREFETCH("plugins.query.scroll.prefetch"),
     METRICS_ROLLING_WINDOW("plugins.query.metrics.rolling_window"),
     METRICS_ROLLING_INTERVAL("plugins.query.metrics.rolling_interval");
 
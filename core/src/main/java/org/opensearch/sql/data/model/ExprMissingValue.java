@@ -62,4 +62,12 @@ public class ExprMissingValue extends AbstractExprValue {
   public String toString() {
     return "MISSING";
   }
+
+  /**
+   * Resolve the MISSING value deserialized, e.g. from a spill file, to the singleton, since the
+   * value orderings compare MISSING by identity.
+   */
+  private Object readResolve() {
+    return instance;
+  }
 }
@@ -62,4 +62,12 @@ public class ExprNullValue extends AbstractExprValue {
   public boolean equal(ExprValue other) {
     return other.isNull();
   }
+
+  /**
+   * Resolve the NULL value deserialized, e.g. from a spill file, to the singleton, since the
+   * value orderings compare NULL by identity.
+   */
+  private Object readResolve() {
+    return instance;
+  }
 }
@@ -91,6 +91,18 @@ public class ExprValueUtils {
     return new ExprTupleValue(valueMap);
   }
 
+  /**
+   * Put the field value into the value map of a tuple being built. Duplicate field name fails in
+   * the same way as {@link com.google.common.collect.ImmutableMap.Builder}.
+   */
+  public static void putField(Map<String, ExprValue> valueMap, String name, ExprValue value) {
+    ExprValue previous = valueMap.put(name, value);
+    if (previous != null) {
+      throw new IllegalArgumentException(String.format(
+          "Multiple entries with same key: %s=%s and %s=%s", name, value, name, previous));
+    }
+  }
+
   /**
    * {@link ExprCollectionValue} constructor.
    */
@@ -0,0 +1,342 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.opensearch.sql.ast.tree.UnresolvedPlan;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalHighlight;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalRemove;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalValues;
+
+/**
+ * Bounded LRU cache of logical plans analyzed from {@link UnresolvedPlan}, which saves the
+ * analysis including the index mapping lookup of the same query sent again and again. The cache
+ * is cleared whenever the metadata version given changes, e.g. on index mapping or settings
+ * changes, or by {@link #clear()} once the other metadata the analysis depends on, e.g. the data
+ * sources, changes.
+ *
+ * <p>The optimizer changes the plan in place and pushes operations down into a table scan
+ * builder of the query. So the cache keeps a template of the plan and returns a copy of the plan
+ * nodes for each query. Only the plans made of the operators known to be stateless are cached.
+ * A plan with window functions, which keep the state of the current partition, or with functions
+ * that depend on the query time, e.g. NOW(), is always analyzed again.</p>
+ */
+public class LogicalPlanCache {
+
+  /**
+   * Default maximum number of plans cached.
+   */
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  /**
+   * Logical plans of the queries on this node.
+   */
+  public static final LogicalPlanCache DEFAULT = new LogicalPlanCache(DEFAULT_CAPACITY);
+
+  private final Map<UnresolvedPlan, LogicalPlan> plans;
+
+  /**
+   * Metadata version of the plans cached, guarded by {@link #plans}.
+   */
+  private long metadataVersion;
+
+  /**
+   * Number of times the cache is cleared by {@link #clear()}, guarded by {@link #plans}. Plan
+   * analyzed before the cache is cleared is not cached.
+   */
+  private long clearCount;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Create cache of logical plans.
+   *
+   * @param capacity maximum number of plans cached
+   */
+  public LogicalPlanCache(int capacity) {
+    this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UnresolvedPlan, LogicalPlan> eldest) {
+        if (size() > capacity) {
+          evictionCount.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Get a copy of the logical plan analyzed from the unresolved plan, or analyze it and cache a
+   * copy of the result if absent or analyzed on another metadata version.
+   *
+   * @param plan            unresolved plan
+   * @param metadataVersion current version of the metadata the analysis depends on
+   * @param analyzer        function that analyzes the unresolved plan
+   * @return logical plan owned by the caller
+   */
+  public LogicalPlan get(UnresolvedPlan plan, long metadataVersion,
+                         Function<UnresolvedPlan, LogicalPlan> analyzer) {
+    LogicalPlan template;
+    long loadedClearCount;
+    synchronized (plans) {
+      if (this.metadataVersion != metadataVersion) {
+        evictionCount.add(plans.size());
+        plans.clear();
+        this.metadataVersion = metadataVersion;
+      }
+      template = plans.get(plan);
+      loadedClearCount = clearCount;
+    }
+    if (template != null) {
+      hitCount.increment();
+      return copy(template);
+    }
+
+    missCount.increment();
+    LogicalPlan analyzed = analyzer.apply(plan);
+    CopyContext context = new CopyContext();
+    template = analyzed.accept(new PlanCopier(), context);
+    if (context.isCacheable()) {
+      synchronized (plans) {
+        if (this.metadataVersion == metadataVersion && clearCount == loadedClearCount) {
+          plans.put(plan, template);
+        }
+      }
+    }
+    return analyzed;
+  }
+
+  /**
+   * Clear all the plans cached, including the plans being analyzed now.
+   */
+  public void clear() {
+    synchronized (plans) {
+      evictionCount.add(plans.size());
+      plans.clear();
+      clearCount++;
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Number of plans cached.
+   */
+  public int size() {
+    synchronized (plans) {
+      return plans.size();
+    }
+  }
+
+  /**
+   * Copy the plan nodes and share the expressions and tables in them.
+   */
+  private static LogicalPlan copy(LogicalPlan plan) {
+    return plan.accept(new PlanCopier(), new CopyContext());
+  }
+
+  /**
+   * Context of copying a plan, which collects the expressions in the plan and tells whether the
+   * plan is cacheable.
+   */
+  private static class CopyContext {
+    private final List<Expression> expressions = new ArrayList<>();
+
+    private boolean supported = true;
+
+    /**
+     * The plan is cacheable if all operators are copied and no function in the expressions
+     * captures {@link FunctionProperties}, which holds the query time.
+     */
+    boolean isCacheable() {
+      ExpressionFinder finder = new ExpressionFinder();
+      for (Expression expression : expressions) {
+        if (expression.accept(finder, null)) {
+          return false;
+        }
+      }
+      return supported;
+    }
+  }
+
+  /**
+   * Copier of the stateless operators. The plan is marked as not supported if it has any other
+   * operator.
+   */
+  private static class PlanCopier extends LogicalPlanNodeVisitor<LogicalPlan, CopyContext> {
+
+    @Override
+    public LogicalPlan visitNode(LogicalPlan plan, CopyContext context) {
+      context.supported = false;
+      return plan;
+    }
+
+    @Override
+    public LogicalPlan visitRelation(LogicalRelation plan, CopyContext context) {
+      return new LogicalRelation(plan.getRelationName(), plan.getTable());
+    }
+
+    @Override
+    public LogicalPlan visitValues(LogicalValues plan, CopyContext context) {
+      return new LogicalValues(plan.getValues());
+    }
+
+    @Override
+    public LogicalPlan visitFilter(LogicalFilter plan, CopyContext context) {
+      context.expressions.add(plan.getCondition());
+      return new LogicalFilter(copyChild(plan, context), plan.getCondition());
+    }
+
+    @Override
+    public LogicalPlan visitHighlight(LogicalHighlight plan, CopyContext context) {
+      context.expressions.add(plan.getHighlightField());
+      return new LogicalHighlight(
+          copyChild(plan, context), plan.getHighlightField(), plan.getArguments());
+    }
+
+    @Override
+    public LogicalPlan visitAggregation(LogicalAggregation plan, CopyContext context) {
+      context.expressions.addAll(plan.getAggregatorList());
+      context.expressions.addAll(plan.getGroupByList());
+      return new LogicalAggregation(
+          copyChild(plan, context), plan.getAggregatorList(), plan.getGroupByList());
+    }
+
+    @Override
+    public LogicalPlan visitDedupe(LogicalDedupe plan, CopyContext context) {
+      context.expressions.addAll(plan.getDedupeList());
+      return new LogicalDedupe(copyChild(plan, context), plan.getDedupeList(),
+          plan.getAllowedDuplication(), plan.getKeepEmpty(), plan.getConsecutive());
+    }
+
+    @Override
+    public LogicalPlan visitRename(LogicalRename plan, CopyContext context) {
+      return new LogicalRename(copyChild(plan, context), plan.getRenameMap());
+    }
+
+    @Override
+    public LogicalPlan visitProject(LogicalProject plan, CopyContext context) {
+      context.expressions.addAll(plan.getProjectList());
+      context.expressions.addAll(plan.getNamedParseExpressions());
+      return new LogicalProject(
+          copyChild(plan, context), plan.getProjectList(), plan.getNamedParseExpressions());
+    }
+
+    @Override
+    public LogicalPlan visitRemove(LogicalRemove plan, CopyContext context) {
+      return new LogicalRemove(copyChild(plan, context), plan.getRemoveList());
+    }
+
+    @Override
+    public LogicalPlan visitEval(LogicalEval plan, CopyContext context) {
+      plan.getExpressions().forEach(pair -> context.expressions.add(pair.getRight()));
+      return new LogicalEval(copyChild(plan, context), plan.getExpressions());
+    }
+
+    @Override
+    public LogicalPlan visitSort(LogicalSort plan, CopyContext context) {
+      plan.getSortList().forEach(pair -> context.expressions.add(pair.getRight()));
+      return new LogicalSort(copyChild(plan, context), plan.getSortList());
+    }
+
+    @Override
+    public LogicalPlan visitRareTopN(LogicalRareTopN plan, CopyContext context) {
+      context.expressions.addAll(plan.getFieldList());
+      context.expressions.addAll(plan.getGroupByList());
+      return new LogicalRareTopN(copyChild(plan, context), plan.getCommandType(),
+          plan.getNoOfResults(), plan.getFieldList(), plan.getGroupByList());
+    }
+
+    @Override
+    public LogicalPlan visitLimit(LogicalLimit plan, CopyContext context) {
+      return new LogicalLimit(copyChild(plan, context), plan.getLimit(), plan.getOffset());
+    }
+
+    private LogicalPlan copyChild(LogicalPlan plan, CopyContext context) {
+      return plan.getChild().get(0).accept(this, context);
+    }
+  }
+
+  /**
+   * Finder of the functions that capture {@link FunctionProperties} in an expression.
+   */
+  private static class ExpressionFinder extends ExpressionNodeVisitor<Boolean, Object> {
+
+    @Override
+    public Boolean visitNode(Expression node, Object context) {
+      return false;
+    }
+
+    @Override
+    public Boolean visitFunction(FunctionExpression node, Object context) {
+      for (Field field : node.getClass().getDeclaredFields()) {
+        if (FunctionProperties.class.isAssignableFrom(field.getType())) {
+          return true;
+        }
+      }
+      return anyOf(node.getArguments());
+    }
+
+    @Override
+    public Boolean visitAggregator(Aggregator<?> node, Object context) {
+      return anyOf(node.getArguments())
+          || (node.condition() != null && node.condition().accept(this, context));
+    }
+
+    @Override
+    public Boolean visitNamedAggregator(NamedAggregator node, Object context) {
+      return visitAggregator(node, context);
+    }
+
+    private boolean anyOf(List<Expression> expressions) {
+      for (Expression expression : expressions) {
+        if (expression.accept(this, null)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -8,7 +8,8 @@
 
 package org.opensearch.sql.executor;
 
-import lombok.RequiredArgsConstructor;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
@@ -21,7 +22,6 @@ import org.opensearch.sql.planner.physical.PhysicalPlan;
 /**
  * The low level interface of core engine.
  */
-@RequiredArgsConstructor
 public class QueryService {
 
   private final Analyzer analyzer;
@@ -30,6 +30,41 @@ public class QueryService {
 
   private final Planner planner;
 
+  private final LogicalPlanCache planCache;
+
+  /**
+   * Version of the metadata that the analysis depends on, e.g. index mappings and settings.
+   */
+  private final LongSupplier metadataVersion;
+
+  /**
+   * Whether the current query can share the plans cached, e.g. not if the analysis depends on
+   * the user sending the query.
+   */
+  private final BooleanSupplier planCacheEnabled;
+
+  /**
+   * Create query service which analyzes every plan without caching.
+   */
+  public QueryService(Analyzer analyzer, ExecutionEngine executionEngine, Planner planner) {
+    this(analyzer, executionEngine, planner, new LogicalPlanCache(0), () -> 0L, () -> false);
+  }
+
+  /**
+   * Create query service with the logical plan cache given, which is shared across requests and
+   * cleared once the metadata version changes.
+   */
+  public QueryService(Analyzer analyzer, ExecutionEngine executionEngine, Planner planner,
+                      LogicalPlanCache planCache, LongSupplier metadataVersion,
+                      BooleanSupplier planCacheEnabled) {
+    this.analyzer = analyzer;
+    this.executionEngine = executionEngine;
+    this.planner = planner;
+    this.planCache = planCache;
+    this.metadataVersion = metadataVersion;
+    this.planCacheEnabled = planCacheEnabled;
+  }
+
   /**
    * Execute the {@link UnresolvedPlan}, using {@link ResponseListener} to get response.
    * Todo. deprecated this interface after finalize {@link PlanContext}.
@@ -87,10 +122,14 @@ public class QueryService {
   }
 
   /**
-   * Analyze {@link UnresolvedPlan}.
+   * Analyze {@link UnresolvedPlan}, or copy the logical plan cached for it.
    */
   public LogicalPlan analyze(UnresolvedPlan plan) {
-    return analyzer.analyze(plan, new AnalysisContext());
+    if (!planCacheEnabled.getAsBoolean()) {
+      return analyzer.analyze(plan, new AnalysisContext());
+    }
+    return planCache.get(plan, metadataVersion.getAsLong(),
+        unresolved -> analyzer.analyze(unresolved, new AnalysisContext()));
   }
 
   /**
@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.opensearch.sql.ast.statement.Statement;
+
+/**
+ * Bounded LRU cache of {@link Statement} built from query text, which saves the parsing and AST
+ * building of the same query sent again and again, for example by dashboards. The statement is
+ * not changed once built, and thus is shared by the queries safely.
+ *
+ * <p>The cache counts hits and misses, and the time spent on building statements for the
+ * misses.</p>
+ */
+public class StatementCache {
+
+  /**
+   * Default maximum number of statements cached.
+   */
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  /**
+   * Statements built from SQL queries on this node.
+   */
+  public static final StatementCache SQL = new StatementCache(DEFAULT_CAPACITY);
+
+  /**
+   * Statements built from PPL queries on this node.
+   */
+  public static final StatementCache PPL = new StatementCache(DEFAULT_CAPACITY);
+
+  private final Map<List<Object>, Statement> statements;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder buildTimeNanos = new LongAdder();
+
+  /**
+   * Create cache of statements.
+   *
+   * @param capacity maximum number of statements cached
+   */
+  public StatementCache(int capacity) {
+    this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<List<Object>, Statement> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Get the statement built from the query, or build and cache it if absent. The query text is
+   * normalized by removing leading and trailing whitespace. Statement failed to build is not
+   * cached.
+   *
+   * @param query     query text
+   * @param isExplain if explain statement
+   * @param builder   statement builder
+   * @return statement
+   */
+  public Statement get(String query, boolean isExplain, Supplier<Statement> builder) {
+    List<Object> key = List.of(query.trim(), isExplain);
+    Statement statement;
+    synchronized (statements) {
+      statement = statements.get(key);
+    }
+    if (statement != null) {
+      hitCount.increment();
+      return statement;
+    }
+
+    missCount.increment();
+    long start = System.nanoTime();
+    statement = builder.get();
+    buildTimeNanos.add(System.nanoTime() - start);
+    synchronized (statements) {
+      statements.put(key, statement);
+    }
+    return statement;
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getBuildTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(buildTimeNanos.sum());
+  }
+
+  /**
+   * Number of statements cached.
+   */
+  public int size() {
+    synchronized (statements) {
+      return statements.size();
+    }
+  }
+}
@@ -12,14 +12,12 @@ import java.util.Arrays;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
 
 @EqualsAndHashCode
-@RequiredArgsConstructor
 public class ReferenceExpression implements Expression {
   @Getter
   private final String attr;
@@ -29,6 +27,25 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /**
+   * The paths joined as a whole, which is resolved first on every access.
+   */
+  @EqualsAndHashCode.Exclude
+  private final String wholePath;
+
+  /**
+   * Constructor of ReferenceExpression.
+   * @param attr the field name.
+   * @param paths the paths of the field.
+   * @param type type.
+   */
+  public ReferenceExpression(String attr, List<String> paths, ExprType type) {
+    this.attr = attr;
+    this.paths = paths;
+    this.type = type;
+    this.wholePath = String.join(PATH_SEP, paths);
+  }
+
   /**
    * Constructor of ReferenceExpression.
    * @param ref the field name. e.g. addr.state/addr.
@@ -39,6 +56,7 @@ public class ReferenceExpression implements Expression {
     // Todo. the define of paths need to be redefined after adding multiple index/variable support.
     this.paths = Arrays.asList(ref.split("\\."));
     this.type = type;
+    this.wholePath = String.join(PATH_SEP, paths);
   }
 
   @Override
@@ -96,7 +114,12 @@ public class ReferenceExpression implements Expression {
    * @return {@link ExprTupleValue}.
    */
   public ExprValue resolve(ExprTupleValue value) {
-    return resolve(value, paths);
+    final ExprValue wholePathValue = value.keyValue(wholePath);
+    if (!wholePathValue.isMissing() || paths.size() == 1) {
+      return wholePathValue;
+    } else {
+      return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
+    }
   }
 
   private ExprValue resolve(ExprValue value, List<String> paths) {
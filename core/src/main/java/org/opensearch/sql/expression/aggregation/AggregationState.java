@@ -6,13 +6,16 @@
 
 package org.opensearch.sql.expression.aggregation;
 
+import java.io.Serializable;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Maintain the state when {@link Aggregator} iterate on the {@link BindingTuple}.
+ * The state is {@link Serializable}, so the aggregation could spill it to disk and resume
+ * iterating on it later.
  */
-public interface AggregationState {
+public interface AggregationState extends Serializable {
   /**
    * Get {@link ExprValue} result.
    */
@@ -0,0 +1,283 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Predicate compiled from a boolean expression tree by {@link PredicateCompiler}. The logical
+ * operators and comparisons of the tree are fused into one evaluator, whose intermediate results
+ * are the int states {@link #TRUE}, {@link #FALSE}, {@link #NULL} and {@link #MISSING} instead of
+ * {@link ExprValue}. AND and OR skip the right operand once the result is known from the left.
+ *
+ * <p>The compiled predicate is an {@link Expression} equal to the original expression, and is
+ * visited, printed and typed as the original expression.</p>
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@RequiredArgsConstructor
+public abstract class CompiledPredicate implements Expression {
+
+  public static final int FALSE = 0;
+  public static final int TRUE = 1;
+  public static final int NULL = 2;
+  public static final int MISSING = 3;
+
+  /**
+   * The original expression.
+   */
+  @EqualsAndHashCode.Include
+  private final Expression expression;
+
+  /**
+   * Evaluate the predicate.
+   *
+   * @param valueEnv value environment
+   * @return {@link #TRUE}, {@link #FALSE}, {@link #NULL} or {@link #MISSING}
+   */
+  public abstract int evaluate(Environment<Expression, ExprValue> valueEnv);
+
+  /**
+   * Test if the predicate is evaluated to TRUE.
+   *
+   * @param valueEnv value environment
+   * @return true if the predicate is TRUE, false if FALSE, NULL or MISSING
+   */
+  public boolean test(Environment<Expression, ExprValue> valueEnv) {
+    return evaluate(valueEnv) == TRUE;
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    switch (evaluate(valueEnv)) {
+      case TRUE:
+        return LITERAL_TRUE;
+      case FALSE:
+        return LITERAL_FALSE;
+      case NULL:
+        return LITERAL_NULL;
+      default:
+        return LITERAL_MISSING;
+    }
+  }
+
+  @Override
+  public ExprType type() {
+    return expression.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return expression.accept(visitor, context);
+  }
+
+  @Override
+  public String toString() {
+    return expression.toString();
+  }
+
+  /**
+   * State of the value.
+   */
+  static int state(ExprValue value) {
+    if (value.isMissing()) {
+      return MISSING;
+    } else if (value.isNull()) {
+      return NULL;
+    }
+    return value.booleanValue() ? TRUE : FALSE;
+  }
+
+  /**
+   * Expression which is not compiled and evaluated as it is.
+   */
+  static class Interpreted extends CompiledPredicate {
+    private final Expression expression;
+
+    Interpreted(Expression expression) {
+      super(expression);
+      this.expression = expression;
+    }
+
+    @Override
+    public int evaluate(Environment<Expression, ExprValue> valueEnv) {
+      return state(expression.valueOf(valueEnv));
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      return expression.valueOf(valueEnv);
+    }
+  }
+
+  /**
+   * AND of the three-valued logic, the same as the and function.
+   */
+  static class And extends CompiledPredicate {
+    private final CompiledPredicate left;
+    private final CompiledPredicate right;
+
+    And(Expression expression, CompiledPredicate left, CompiledPredicate right) {
+      super(expression);
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public int evaluate(Environment<Expression, ExprValue> valueEnv) {
+      int l = left.evaluate(valueEnv);
+      if (l == FALSE) {
+        return FALSE;
+      }
+      int r = right.evaluate(valueEnv);
+      if (r == FALSE) {
+        return FALSE;
+      } else if (l == TRUE) {
+        return r;
+      } else if (r == TRUE) {
+        return l;
+      }
+      return (l == MISSING || r == MISSING) ? MISSING : NULL;
+    }
+  }
+
+  /**
+   * OR of the three-valued logic, the same as the or function.
+   */
+  static class Or extends CompiledPredicate {
+    private final CompiledPredicate left;
+    private final CompiledPredicate right;
+
+    Or(Expression expression, CompiledPredicate left, CompiledPredicate right) {
+      super(expression);
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public int evaluate(Environment<Expression, ExprValue> valueEnv) {
+      int l = left.evaluate(valueEnv);
+      if (l == TRUE) {
+        return TRUE;
+      }
+      int r = right.evaluate(valueEnv);
+      if (r == TRUE) {
+        return TRUE;
+      } else if (l == FALSE) {
+        return r;
+      } else if (r == FALSE) {
+        return l;
+      }
+      return (l == NULL || r == NULL) ? NULL : MISSING;
+    }
+  }
+
+  /**
+   * NOT of the three-valued logic, the same as the not function.
+   */
+  static class Not extends CompiledPredicate {
+    private final CompiledPredicate operand;
+
+    Not(Expression expression, CompiledPredicate operand) {
+      super(expression);
+      this.operand = operand;
+    }
+
+    @Override
+    public int evaluate(Environment<Expression, ExprValue> valueEnv) {
+      int state = operand.evaluate(valueEnv);
+      if (state == TRUE) {
+        return FALSE;
+      } else if (state == FALSE) {
+        return TRUE;
+      }
+      return state;
+    }
+  }
+
+  /**
+   * Comparison of two operands, the same as the comparison functions. The result is MISSING if
+   * any operand is MISSING, otherwise NULL if any operand is NULL.
+   */
+  static class Comparison extends CompiledPredicate {
+    private final Comparator comparator;
+    private final Expression left;
+    private final Expression right;
+
+    Comparison(Expression expression, Comparator comparator, Expression left, Expression right) {
+      super(expression);
+      this.comparator = comparator;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public int evaluate(Environment<Expression, ExprValue> valueEnv) {
+      ExprValue l = left.valueOf(valueEnv);
+      ExprValue r = right.valueOf(valueEnv);
+      if (l.isMissing() || r.isMissing()) {
+        return MISSING;
+      } else if (l.isNull() || r.isNull()) {
+        return NULL;
+      }
+      return comparator.compare(l, r) ? TRUE : FALSE;
+    }
+  }
+
+  /**
+   * Comparator of the comparison.
+   */
+  enum Comparator {
+    EQUAL {
+      @Override
+      boolean compare(ExprValue l, ExprValue r) {
+        return l.equals(r);
+      }
+    },
+    NOT_EQUAL {
+      @Override
+      boolean compare(ExprValue l, ExprValue r) {
+        return !l.equals(r);
+      }
+    },
+    LESS {
+      @Override
+      boolean compare(ExprValue l, ExprValue r) {
+        return l.compareTo(r) < 0;
+      }
+    },
+    LTE {
+      @Override
+      boolean compare(ExprValue l, ExprValue r) {
+        return l.compareTo(r) <= 0;
+      }
+    },
+    GREATER {
+      @Override
+      boolean compare(ExprValue l, ExprValue r) {
+        return l.compareTo(r) > 0;
+      }
+    },
+    GTE {
+      @Override
+      boolean compare(ExprValue l, ExprValue r) {
+        return l.compareTo(r) >= 0;
+      }
+    };
+
+    abstract boolean compare(ExprValue l, ExprValue r);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.compiler.CompiledPredicate.Comparator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Compile the AND, OR, NOT and comparison functions of a boolean expression tree into a
+ * {@link CompiledPredicate}. The other expressions in the tree are evaluated as they are.
+ */
+@UtilityClass
+public class PredicateCompiler {
+
+  private static final Map<FunctionName, Comparator> COMPARATORS =
+      new ImmutableMap.Builder<FunctionName, Comparator>()
+          .put(BuiltinFunctionName.EQUAL.getName(), Comparator.EQUAL)
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), Comparator.NOT_EQUAL)
+          .put(BuiltinFunctionName.LESS.getName(), Comparator.LESS)
+          .put(BuiltinFunctionName.LTE.getName(), Comparator.LTE)
+          .put(BuiltinFunctionName.GREATER.getName(), Comparator.GREATER)
+          .put(BuiltinFunctionName.GTE.getName(), Comparator.GTE)
+          .build();
+
+  /**
+   * Compile the expression.
+   *
+   * @param expression expression
+   * @return compiled predicate, which evaluates the expression as it is if it is not boolean
+   */
+  public static CompiledPredicate compile(Expression expression) {
+    if (expression instanceof CompiledPredicate) {
+      return (CompiledPredicate) expression;
+    } else if (!(expression instanceof FunctionExpression)
+        || expression.type() != ExprCoreType.BOOLEAN) {
+      return new CompiledPredicate.Interpreted(expression);
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    FunctionName name = function.getFunctionName();
+    List<Expression> args = function.getArguments();
+    if (name.equals(BuiltinFunctionName.AND.getName())) {
+      return new CompiledPredicate.And(expression, compile(args.get(0)), compile(args.get(1)));
+    } else if (name.equals(BuiltinFunctionName.OR.getName())) {
+      return new CompiledPredicate.Or(expression, compile(args.get(0)), compile(args.get(1)));
+    } else if (name.equals(BuiltinFunctionName.NOT.getName())) {
+      return new CompiledPredicate.Not(expression, compile(args.get(0)));
+    } else if (COMPARATORS.containsKey(name)) {
+      return new CompiledPredicate.Comparison(
+          expression, COMPARATORS.get(name), args.get(0), args.get(1));
+    }
+    return new CompiledPredicate.Interpreted(expression);
+  }
+}
@@ -231,6 +231,35 @@ public class FunctionDSL {
         function.apply(arg1, arg2), returnType, args1Type, args2Type);
   }
 
+  /**
+   * Binary Function Implementation which is built from the argument expressions once per function
+   * expression, e.g. to precompile the literal argument.
+   *
+   * @param functionFactory builder of {@link ExprValue} based binary function from arguments.
+   * @param returnType      return type.
+   * @param args1Type       argument type.
+   * @param args2Type       argument type.
+   * @return Binary Function Implementation.
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implWithArguments(
+      SerializableFunction<List<Expression>,
+          SerializableBiFunction<ExprValue, ExprValue, ExprValue>> functionFactory,
+      ExprType returnType,
+      ExprType args1Type,
+      ExprType args2Type) {
+
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type));
+      FunctionBuilder functionBuilder =
+          (functionProperties, arguments) ->
+              impl(functionFactory.apply(arguments), returnType, args1Type, args2Type)
+                  .apply(functionName).getValue().apply(functionProperties, arguments);
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
   /**
    * Triple Function Implementation.
    *
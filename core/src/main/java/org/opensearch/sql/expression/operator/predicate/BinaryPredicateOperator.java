@@ -25,6 +25,7 @@ import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
 import org.opensearch.sql.expression.function.FunctionDSL;
+import org.opensearch.sql.expression.function.SerializableBiFunction;
 import org.opensearch.sql.utils.OperatorUtils;
 
 /**
@@ -234,20 +235,26 @@ public class BinaryPredicateOperator {
 
   private static DefaultFunctionResolver like() {
     return FunctionDSL.define(BuiltinFunctionName.LIKE.getName(), FunctionDSL
-        .impl(FunctionDSL.nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING,
-            STRING));
+        .implWithArguments(
+            arguments -> FunctionDSL.nullMissingHandling(OperatorUtils.like(arguments.get(1))),
+            BOOLEAN, STRING, STRING));
   }
 
   private static DefaultFunctionResolver regexp() {
     return FunctionDSL.define(BuiltinFunctionName.REGEXP.getName(), FunctionDSL
-        .impl(FunctionDSL.nullMissingHandling(OperatorUtils::matchesRegexp),
+        .implWithArguments(
+            arguments -> FunctionDSL.nullMissingHandling(OperatorUtils.regexp(arguments.get(1))),
             INTEGER, STRING, STRING));
   }
 
   private static DefaultFunctionResolver notLike() {
     return FunctionDSL.define(BuiltinFunctionName.NOT_LIKE.getName(), FunctionDSL
-        .impl(FunctionDSL.nullMissingHandling(
-            (v1, v2) -> UnaryPredicateOperator.not(OperatorUtils.matches(v1, v2))),
+        .implWithArguments(arguments -> {
+          SerializableBiFunction<ExprValue, ExprValue, ExprValue> like =
+              OperatorUtils.like(arguments.get(1));
+          return FunctionDSL.nullMissingHandling(
+              (v1, v2) -> UnaryPredicateOperator.not(like.apply(v1, v2)));
+        },
             BOOLEAN,
             STRING,
             STRING));
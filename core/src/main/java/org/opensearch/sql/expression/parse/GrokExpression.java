@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.expression.parse;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class GrokExpression extends ParseExpression {
 
   @EqualsAndHashCode.Exclude
   private final Grok grok;
+  @EqualsAndHashCode.Exclude
+  private final List<String> namedGroups;
 
   /**
    * GrokExpression.
@@ -46,6 +49,7 @@ public class GrokExpression extends ParseExpression {
   public GrokExpression(Expression sourceField, Expression pattern, Expression identifier) {
     super("grok", sourceField, pattern, identifier);
     this.grok = grokCompiler.compile(pattern.valueOf().stringValue());
+    this.namedGroups = getNamedGroups(grok);
   }
 
   @Override
@@ -61,6 +65,25 @@ public class GrokExpression extends ParseExpression {
     return new ExprStringValue("");
   }
 
+  /**
+   * All the named groups are parsed by one match regardless of the identifier.
+   */
+  @Override
+  public List<Object> parseKey() {
+    return List.of(getClass(), sourceField, pattern);
+  }
+
+  @Override
+  Map<String, ExprValue> parseAllValues(ExprValue value) throws ExpressionEvaluationException {
+    Map<String, Object> capture = grok.match(value.stringValue()).capture();
+    Map<String, ExprValue> values = new HashMap<>();
+    for (String group : namedGroups) {
+      Object match = capture.get(group);
+      values.put(group, new ExprStringValue((match != null) ? match.toString() : ""));
+    }
+    return values;
+  }
+
   /**
    * Get list of derived fields based on parse pattern.
    *
@@ -68,7 +91,10 @@ public class GrokExpression extends ParseExpression {
    * @return list of names of the derived fields
    */
   public static List<String> getNamedGroupCandidates(String pattern) {
-    Grok grok = grokCompiler.compile(pattern);
+    return getNamedGroups(grokCompiler.compile(pattern));
+  }
+
+  private static List<String> getNamedGroups(Grok grok) {
     return grok.namedGroups.stream().map(grok::getNamedRegexCollectionById)
         .filter(group -> !group.equals("UNWANTED")).collect(Collectors.toUnmodifiableList());
   }
@@ -6,6 +6,8 @@
 package org.opensearch.sql.expression.parse;
 
 import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -57,11 +59,28 @@ public abstract class ParseExpression extends FunctionExpression {
     if (value.isNull() || value.isMissing()) {
       return ExprValueUtils.nullValue();
     }
+    if (valueEnv instanceof ParseMemo) {
+      return ((ParseMemo) valueEnv).parse(this, value).get(identifierStr);
+    }
     try {
       return parseValue(value);
     } catch (ExpressionEvaluationException e) {
-      throw new SemanticCheckException(
-          String.format("failed to parse field \"%s\" with type [%s]", sourceField, value.type()));
+      throw parseFailure(value);
+    }
+  }
+
+  /**
+   * Parse the value of the source field into all the fields derived from the pattern by one
+   * match, which can be shared by the parse expressions of the same {@link #parseKey()}.
+   *
+   * @param value value of the source field, which is neither null nor missing
+   * @return derived field name and value, including the identifier of this expression
+   */
+  public Map<String, ExprValue> parseAll(ExprValue value) {
+    try {
+      return parseAllValues(value);
+    } catch (ExpressionEvaluationException e) {
+      throw parseFailure(value);
     }
   }
 
@@ -75,5 +94,24 @@ public abstract class ParseExpression extends FunctionExpression {
     return visitor.visitParse(this, context);
   }
 
+  /**
+   * Key of the parse, which is the same for the parse expressions that can share the result of
+   * {@link #parseAll(ExprValue)}. By default, the result is not shared with other identifiers.
+   *
+   * @return key of the parse
+   */
+  public List<Object> parseKey() {
+    return List.of(getClass(), sourceField, pattern, identifier);
+  }
+
   abstract ExprValue parseValue(ExprValue value) throws ExpressionEvaluationException;
+
+  Map<String, ExprValue> parseAllValues(ExprValue value) throws ExpressionEvaluationException {
+    return Map.of(identifierStr, parseValue(value));
+  }
+
+  private SemanticCheckException parseFailure(ExprValue value) {
+    return new SemanticCheckException(
+        String.format("failed to parse field \"%s\" with type [%s]", sourceField, value.type()));
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Memo of the parses on the current row of an operator. The operator evaluates its expressions
+ * in the environment of the memo, where the parse expressions of the same parse key, e.g. the
+ * fields derived from one grok pattern, share one match of the source value of the row.
+ *
+ * <p>A parse result is reused as long as the source value resolved is the same instance, which
+ * holds on the same row only. So the memo keeps one result per parse key and is owned by one
+ * operator, confined to the thread that runs it.</p>
+ */
+public class ParseMemo implements Environment<Expression, ExprValue> {
+
+  private final Map<List<Object>, Parse> parses = new HashMap<>();
+
+  private Environment<Expression, ExprValue> env;
+
+  /**
+   * Evaluate in the environment of the current row with the parses memoized.
+   *
+   * @param env environment of the current row
+   * @return environment of the memo
+   */
+  public Environment<Expression, ExprValue> of(Environment<Expression, ExprValue> env) {
+    this.env = env;
+    return this;
+  }
+
+  @Override
+  public ExprValue resolve(Expression var) {
+    return env.resolve(var);
+  }
+
+  /**
+   * Parse the source value by the parse expression, or reuse the parse of the same parse key on
+   * the same source value.
+   */
+  Map<String, ExprValue> parse(ParseExpression expression, ExprValue source) {
+    List<Object> parseKey = expression.parseKey();
+    Parse parse = parses.get(parseKey);
+    if (parse == null || parse.source != source) {
+      parse = new Parse(source, expression.parseAll(source));
+      parses.put(parseKey, parse);
+    }
+    return parse.values;
+  }
+
+  @RequiredArgsConstructor
+  private static class Parse {
+    private final ExprValue source;
+    private final Map<String, ExprValue> values;
+  }
+}
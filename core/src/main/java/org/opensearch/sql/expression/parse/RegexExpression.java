@@ -6,7 +6,9 @@
 package org.opensearch.sql.expression.parse;
 
 import com.google.common.collect.ImmutableList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
@@ -30,6 +32,8 @@ public class RegexExpression extends ParseExpression {
   @Getter
   @EqualsAndHashCode.Exclude
   private final Pattern regexPattern;
+  @EqualsAndHashCode.Exclude
+  private final List<String> namedGroups;
 
   /**
    * RegexExpression.
@@ -41,6 +45,7 @@ public class RegexExpression extends ParseExpression {
   public RegexExpression(Expression sourceField, Expression pattern, Expression identifier) {
     super("regex", sourceField, pattern, identifier);
     this.regexPattern = Pattern.compile(pattern.valueOf().stringValue());
+    this.namedGroups = getNamedGroupCandidates(pattern.valueOf().stringValue());
   }
 
   @Override
@@ -54,6 +59,28 @@ public class RegexExpression extends ParseExpression {
     return new ExprStringValue("");
   }
 
+  /**
+   * All the named groups are parsed by one match regardless of the identifier.
+   */
+  @Override
+  public List<Object> parseKey() {
+    return List.of(getClass(), sourceField, pattern);
+  }
+
+  @Override
+  Map<String, ExprValue> parseAllValues(ExprValue value) throws ExpressionEvaluationException {
+    Matcher matcher = regexPattern.matcher(value.stringValue());
+    boolean matches = matcher.matches();
+    if (!matches) {
+      log.debug("failed to extract pattern {} from input ***", regexPattern.pattern());
+    }
+    Map<String, ExprValue> values = new HashMap<>();
+    for (String group : namedGroups) {
+      values.put(group, new ExprStringValue(matches ? matcher.group(group) : ""));
+    }
+    return values;
+  }
+
   /**
    * Get list of derived fields based on parse pattern.
    *
@@ -13,8 +13,8 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.env.Environment;
@@ -27,33 +27,60 @@ import org.opensearch.sql.expression.window.WindowDefinition;
  * to add "real" cumulative frame implementation in future as needed.
  */
 @EqualsAndHashCode
-@RequiredArgsConstructor
 @ToString
 public class CurrentRowWindowFrame implements WindowFrame {
 
   @Getter
   private final WindowDefinition windowDefinition;
 
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final List<Expression> sortFields;
+
   private ExprValue previous;
   private ExprValue current;
 
+  /**
+   * Partition and sort key of previous and current row, which are resolved once when loaded.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private List<ExprValue> previousPartitionKey;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private List<ExprValue> currentPartitionKey;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private List<ExprValue> previousSortKey;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private List<ExprValue> currentSortKey;
+
+  /**
+   * Constructor of CurrentRowWindowFrame.
+   * @param windowDefinition window definition
+   */
+  public CurrentRowWindowFrame(WindowDefinition windowDefinition) {
+    this.windowDefinition = windowDefinition;
+    this.sortFields = windowDefinition.getSortList().stream()
+                                      .map(Pair::getRight)
+                                      .collect(Collectors.toList());
+  }
+
   @Override
   public boolean isNewPartition() {
     Objects.requireNonNull(current);
-
-    if (previous == null) {
-      return true;
-    }
-
-    List<ExprValue> preValues = resolve(windowDefinition.getPartitionByList(), previous);
-    List<ExprValue> curValues = resolve(windowDefinition.getPartitionByList(), current);
-    return !preValues.equals(curValues);
+    return previous == null || !previousPartitionKey.equals(currentPartitionKey);
   }
 
   @Override
   public void load(PeekingIterator<ExprValue> it) {
     previous = current;
+    previousPartitionKey = currentPartitionKey;
+    previousSortKey = currentSortKey;
     current = it.next();
+    currentPartitionKey = resolve(windowDefinition.getPartitionByList(), current);
+    currentSortKey = resolve(sortFields, current);
   }
 
   @Override
@@ -65,6 +92,22 @@ public class CurrentRowWindowFrame implements WindowFrame {
     return previous;
   }
 
+  /**
+   * Values of the sort fields of previous row.
+   * @return sort key, or null if no previous row
+   */
+  public List<ExprValue> previousSortKey() {
+    return previousSortKey;
+  }
+
+  /**
+   * Values of the sort fields of current row.
+   * @return sort key
+   */
+  public List<ExprValue> currentSortKey() {
+    return currentSortKey;
+  }
+
   private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
     Environment<Expression, ExprValue> valueEnv = row.bindingTuples();
     return expressions.stream()
@@ -11,7 +11,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
@@ -23,10 +22,11 @@ import org.opensearch.sql.expression.window.WindowDefinition;
  * in window definition). See PeerWindowFrameTest for details about how this window frame
  * interacts with window operator and window function.
  */
-@RequiredArgsConstructor
 public class PeerRowsWindowFrame implements WindowFrame {
 
-  private final WindowDefinition windowDefinition;
+  private final List<Expression> partitionByList;
+
+  private final List<Expression> sortFields;
 
   /**
    * All peer rows (peer means rows in a partition that share same sort key
@@ -44,6 +44,32 @@ public class PeerRowsWindowFrame implements WindowFrame {
    */
   private boolean isNewPartition = true;
 
+  /**
+   * Partition and sort key of the peers loaded. Null if nothing loaded yet.
+   */
+  private List<ExprValue> partitionKey;
+  private List<ExprValue> sortKey;
+
+  /**
+   * Row peeked but not loaded yet and its partition and sort key, so the key of each row is
+   * resolved once even if it's peeked again by next load.
+   */
+  private ExprValue peekedRow;
+  private List<ExprValue> peekedPartitionKey;
+  private List<ExprValue> peekedSortKey;
+
+  /**
+   * Constructor of PeerRowsWindowFrame.
+   * @param windowDefinition window definition
+   */
+  public PeerRowsWindowFrame(WindowDefinition windowDefinition) {
+    this.partitionByList = windowDefinition.getPartitionByList();
+    this.sortFields = windowDefinition.getSortList()
+                                      .stream()
+                                      .map(Pair::getRight)
+                                      .collect(Collectors.toList());
+  }
+
   /**
    * If any more pre-fetched rows not returned to window operator yet.
    */
@@ -94,20 +120,20 @@ public class PeerRowsWindowFrame implements WindowFrame {
       return;
     }
 
-    // Reset state: reset new partition before clearing peers
-    isNewPartition = !isSamePartition(it.peek());
     position = 0;
     peers.clear();
 
     while (it.hasNext()) {
-      ExprValue next = it.peek();
+      peek(it.peek());
+      boolean isSamePartition = peekedPartitionKey.equals(partitionKey);
       if (peers.isEmpty()) {
-        peers.add(it.next());
-      } else if (isSamePartition(next) && isPeer(next)) {
-        peers.add(it.next());
-      } else {
+        isNewPartition = !isSamePartition;
+      } else if (!isSamePartition || !peekedSortKey.equals(sortKey)) {
         break;
       }
+      peers.add(it.next());
+      partitionKey = peekedPartitionKey;
+      sortKey = peekedSortKey;
     }
   }
 
@@ -116,25 +142,12 @@ public class PeerRowsWindowFrame implements WindowFrame {
     return isNewPartition;
   }
 
-  private boolean isPeer(ExprValue next) {
-    List<Expression> sortFields =
-        windowDefinition.getSortList()
-                        .stream()
-                        .map(Pair::getRight)
-                        .collect(Collectors.toList());
-
-    ExprValue last = peers.get(peers.size() - 1);
-    return resolve(sortFields, last).equals(resolve(sortFields, next));
-  }
-
-  private boolean isSamePartition(ExprValue next) {
-    if (peers.isEmpty()) {
-      return false;
+  private void peek(ExprValue next) {
+    if (next != peekedRow) {
+      peekedRow = next;
+      peekedPartitionKey = resolve(partitionByList, next);
+      peekedSortKey = resolve(sortFields, next);
     }
-
-    List<Expression> partitionByList = windowDefinition.getPartitionByList();
-    ExprValue last = peers.get(peers.size() - 1);
-    return resolve(partitionByList, last).equals(resolve(partitionByList, next));
   }
 
   private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
@@ -8,9 +8,6 @@ package org.opensearch.sql.expression.window.ranking;
 
 import static java.util.Collections.emptyList;
 
-import java.util.List;
-import java.util.stream.Collectors;
-import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -23,7 +20,6 @@ import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
-import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Ranking window function base class that captures same info across different ranking functions,
@@ -73,28 +69,13 @@ public abstract class RankingWindowFunction extends FunctionExpression
       return false;
     }
 
-    List<Expression> sortItems = frame.getWindowDefinition()
-                                      .getSortList()
-                                      .stream()
-                                      .map(Pair::getRight)
-                                      .collect(Collectors.toList());
-
-    List<ExprValue> previous = resolve(frame, sortItems, frame.previous());
-    List<ExprValue> current = resolve(frame, sortItems, frame.current());
-    return !current.equals(previous);
+    return !frame.currentSortKey().equals(frame.previousSortKey());
   }
 
   private boolean isSortItemsNotDefined(CurrentRowWindowFrame frame) {
     return frame.getWindowDefinition().getSortList().isEmpty();
   }
 
-  private List<ExprValue> resolve(WindowFrame frame, List<Expression> expressions, ExprValue row) {
-    BindingTuple valueEnv = row.bindingTuples();
-    return expressions.stream()
-                      .map(expr -> expr.valueOf(valueEnv))
-                      .collect(Collectors.toList());
-  }
-
   @Override
   public String toString() {
     return getFunctionName() + "()";
@@ -32,6 +32,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TakeOrderedOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -120,8 +121,20 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new ValuesOperator(node.getValues());
   }
 
+  /**
+   * Limit on top of a sort which is not pushed down to the storage is fused into
+   * {@link TakeOrderedOperator} which only buffers {offset + limit} rows in memory.
+   */
   @Override
   public PhysicalPlan visitLimit(LogicalLimit node, C context) {
+    LogicalPlan child = node.getChild().get(0);
+    if (child instanceof LogicalSort) {
+      return new TakeOrderedOperator(
+          visitChild(child, context),
+          node.getLimit(),
+          node.getOffset(),
+          ((LogicalSort) child).getSortList());
+    }
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
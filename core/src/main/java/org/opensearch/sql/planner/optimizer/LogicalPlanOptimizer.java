@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.rule.EliminateSortOverWindow;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
 import org.opensearch.sql.planner.optimizer.rule.read.CreateTableScanBuilder;
@@ -47,6 +48,7 @@ public class LogicalPlanOptimizer {
          */
         new MergeFilterAndFilter(),
         new PushFilterUnderSort(),
+        new EliminateSortOverWindow(),
         /*
          * Phase 2: Transformations that rely on data source push down capability
          */
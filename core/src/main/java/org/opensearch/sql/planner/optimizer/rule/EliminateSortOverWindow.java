@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+
+/**
+ * Eliminate Sort on top of Window if the input of Window is sorted by the same items already.
+ * Sort - Window - Sort - Child --> Window - Sort - Child
+ *
+ * <p>Window functions with the same window definition are planned as a stack of Window, each on
+ * a Sort of its own. Because Window keeps the order of its input, only the bottom Sort is required,
+ * which may be pushed down to the table scan later and thus no Sort is done in memory at all.</p>
+ */
+public class EliminateSortOverWindow implements Rule<LogicalSort> {
+
+  private final Capture<LogicalWindow> windowCapture;
+
+  private final Capture<LogicalSort> sortCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalSort> pattern;
+
+  /**
+   * Constructor of EliminateSortOverWindow.
+   */
+  public EliminateSortOverWindow() {
+    this.windowCapture = Capture.newCapture();
+    this.sortCapture = Capture.newCapture();
+    this.pattern = typeOf(LogicalSort.class)
+        .with(source().matching(typeOf(LogicalWindow.class).capturedAs(windowCapture)
+            .with(source().matching(typeOf(LogicalSort.class).capturedAs(sortCapture)))));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalSort sort,
+                           Captures captures) {
+    LogicalWindow window = captures.get(windowCapture);
+    LogicalSort sortUnderWindow = captures.get(sortCapture);
+    if (isPrefixOf(sort.getSortList(), sortUnderWindow.getSortList())) {
+      return window;
+    }
+    return sort;
+  }
+
+  private boolean isPrefixOf(List<Pair<SortOption, Expression>> sortList,
+                             List<Pair<SortOption, Expression>> sortedList) {
+    return sortList.size() <= sortedList.size()
+        && sortList.equals(sortedList.subList(0, sortList.size()));
+  }
+}
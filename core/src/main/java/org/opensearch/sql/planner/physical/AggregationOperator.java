@@ -19,11 +19,17 @@ import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.planner.physical.collector.Collector;
+import org.opensearch.sql.planner.physical.collector.SpillableCollector;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Group the all the input {@link BindingTuple} by {@link AggregationOperator#groupByExprList},
  * calculate the aggregation result by using {@link AggregationOperator#aggregatorList}.
+ *
+ * <p>If the {@link SpillConfig} is provided, the groups are collected by
+ * {@link SpillableCollector} which spills the aggregation states to disk under memory pressure.
+ * </p>
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -36,11 +42,17 @@ public class AggregationOperator extends PhysicalPlan {
   private final List<NamedExpression> groupByExprList;
 
   /**
-   * {@link BindingTuple} Collector.
+   * {@link BindingTuple} Collector, null if the groups are collected by
+   * {@link SpillableCollector}.
    */
   @EqualsAndHashCode.Exclude
   private final Collector collector;
   @EqualsAndHashCode.Exclude
+  private final SpillConfig spillConfig;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private SpillableCollector spillableCollector;
+  @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
 
   /**
@@ -52,10 +64,25 @@ public class AggregationOperator extends PhysicalPlan {
    */
   public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
                              List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, null);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input           Input {@link PhysicalPlan}
+   * @param aggregatorList  List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param spillConfig     spill configuration, null means aggregating in memory only
+   */
+  public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
+                             List<NamedExpression> groupByExprList, SpillConfig spillConfig) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
-    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.spillConfig = spillConfig;
+    this.collector =
+        isSpillable() ? null : Collector.Builder.build(groupByExprList, this.aggregatorList);
   }
 
   @Override
@@ -82,9 +109,35 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    if (!isSpillable()) {
+      for (List<ExprValue> batch = input.nextBatch(DEFAULT_BATCH_SIZE); !batch.isEmpty();
+           batch = input.nextBatch(DEFAULT_BATCH_SIZE)) {
+        batch.forEach(value -> collector.collect(value.bindingTuples()));
+      }
+      iterator = collector.results().iterator();
+    } else {
+      spillableCollector = new SpillableCollector(groupByExprList, aggregatorList, spillConfig);
+      for (List<ExprValue> batch = input.nextBatch(DEFAULT_BATCH_SIZE); !batch.isEmpty();
+           batch = input.nextBatch(DEFAULT_BATCH_SIZE)) {
+        batch.forEach(spillableCollector::collect);
+      }
+      iterator = spillableCollector.results();
+    }
+  }
+
+  /**
+   * Only the groups are spilled, the aggregation without groups holds one state per aggregator.
+   */
+  private boolean isSpillable() {
+    return spillConfig != null && !groupByExprList.isEmpty();
+  }
+
+  @Override
+  public void close() {
+    if (spillableCollector != null) {
+      spillableCollector.close();
+      spillableCollector = null;
     }
-    iterator = collector.results().iterator();
+    super.close();
   }
 }
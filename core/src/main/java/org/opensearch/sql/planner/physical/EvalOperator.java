@@ -6,19 +6,16 @@
 
 package org.opensearch.sql.planner.physical;
 
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -26,7 +23,9 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.PredicateCompiler;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.parse.ParseMemo;
 
 /**
  * The eval operator evaluate the {@link EvalOperator#expressionList} and put the result into to
@@ -36,16 +35,46 @@ import org.opensearch.sql.expression.env.Environment;
  * <p>The {@link EvalOperator#expressionList} are evaluated from left to right. It means you can
  * reference previous evaluated field.
  * e.g. fields velocity = distance/time, doubleVelocity = 2 * velocity
+ *
+ * <p>The boolean expressions are compiled by {@link PredicateCompiler} once.</p>
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class EvalOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /**
+   * Expression evaluated for each expression in {@link EvalOperator#expressionList}.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Expression[] evaluators;
+
+  /**
+   * Parses shared by the expressions evaluated on the current row.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final ParseMemo parseMemo = new ParseMemo();
+
+  /**
+   * Constructor of EvalOperator.
+   */
+  public EvalOperator(PhysicalPlan input,
+                      List<Pair<ReferenceExpression, Expression>> expressionList) {
+    this.input = input;
+    this.expressionList = expressionList;
+    this.evaluators = new Expression[expressionList.size()];
+    for (int i = 0; i < evaluators.length; i++) {
+      Expression expression = expressionList.get(i).getValue();
+      evaluators[i] = (expression.type() == BOOLEAN)
+          ? PredicateCompiler.compile(expression) : expression;
+    }
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -63,22 +92,25 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return evalRow(input.next());
+  }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> batch = input.nextBatch(maxSize);
+    batch.replaceAll(this::evalRow);
+    return batch;
+  }
+
+  private ExprValue evalRow(ExprValue inputValue) {
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
-      Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
-        if (evalMap.containsKey(valueEntry.getKey())) {
-          resultBuilder.put(valueEntry.getKey(), evalMap.get(valueEntry.getKey()));
-          evalMap.remove(valueEntry.getKey());
-        } else {
-          resultBuilder.put(valueEntry);
-        }
-      }
-      resultBuilder.putAll(evalMap);
-      return ExprTupleValue.fromExprValueMap(resultBuilder.build());
+      // Existing field keeps its position when overwritten and new field is appended
+      LinkedHashMap<String, ExprValue> resultMap =
+          new LinkedHashMap<>(ExprValueUtils.getTupleValue(inputValue));
+      resultMap.putAll(evalMap);
+      return new ExprTupleValue(resultMap);
     } else {
       return inputValue;
     }
@@ -91,9 +123,9 @@ public class EvalOperator extends PhysicalPlan {
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
-      ReferenceExpression var = pair.getKey();
-      ExprValue value = pair.getValue().valueOf(env);
+    for (int i = 0; i < evaluators.length; i++) {
+      ReferenceExpression var = expressionList.get(i).getKey();
+      ExprValue value = evaluators[i].valueOf(parseMemo.of(env));
       env = extendEnv(env, var, value);
       evalResultMap.put(var.toString(), value);
     }
@@ -9,10 +9,12 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.CompiledPredicate;
+import org.opensearch.sql.expression.compiler.PredicateCompiler;
+import org.opensearch.sql.expression.parse.ParseMemo;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -20,17 +22,32 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
  * The Filter operator use the conditions to evaluate the input {@link BindingTuple}.
  * The Filter operator only return the results that evaluated to true.
  * The NULL and MISSING are handled by the logic defined in {@link BinaryPredicateOperator}.
+ * The conditions are compiled into {@link CompiledPredicate} once.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
-@RequiredArgsConstructor
 public class FilterOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final Expression conditions;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final CompiledPredicate predicate;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final ParseMemo parseMemo = new ParseMemo();
   @ToString.Exclude private ExprValue next = null;
 
+  /**
+   * Constructor of FilterOperator.
+   */
+  public FilterOperator(PhysicalPlan input, Expression conditions) {
+    this.input = input;
+    this.conditions = conditions;
+    this.predicate = PredicateCompiler.compile(conditions);
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -45,8 +62,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (predicate.test(parseMemo.of(inputValue.bindingTuples()))) {
         next = inputValue;
         return true;
       }
@@ -58,4 +74,18 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    while (true) {
+      List<ExprValue> batch = input.nextBatch(maxSize);
+      if (batch.isEmpty()) {
+        return batch;
+      }
+      batch.removeIf(value -> !predicate.test(parseMemo.of(value.bindingTuples())));
+      if (!batch.isEmpty()) {
+        return batch;
+      }
+    }
+  }
 }
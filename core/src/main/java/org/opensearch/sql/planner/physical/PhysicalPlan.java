@@ -6,7 +6,9 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.planner.PlanNode;
@@ -18,6 +20,12 @@ import org.opensearch.sql.storage.split.Split;
 public abstract class PhysicalPlan implements PlanNode<PhysicalPlan>,
     Iterator<ExprValue>,
     AutoCloseable {
+
+  /**
+   * Default number of rows pulled by {@link #nextBatch(int)}.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
   /**
    * Accept the {@link PhysicalPlanNodeVisitor}.
    *
@@ -41,6 +49,23 @@ public abstract class PhysicalPlan implements PlanNode<PhysicalPlan>,
     getChild().forEach(child -> child.add(split));
   }
 
+  /**
+   * Pull the next batch of rows. The default implementation adapts the row by row iterator, and
+   * the operator which processes a batch at once overrides it. A plan is consumed either row by
+   * row or batch by batch, but not both. The batch returned is owned by the caller, which may
+   * modify it in place.
+   *
+   * @param maxSize max number of rows in the batch
+   * @return next rows, at least one unless there is no more row
+   */
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> batch = new ArrayList<>();
+    while (batch.size() < maxSize && hasNext()) {
+      batch.add(next());
+    }
+    return batch;
+  }
+
   public ExecutionEngine.Schema schema() {
     throw new IllegalStateException(String.format("[BUG] schema can been only applied to "
         + "ProjectOperator, instead of %s", toString()));
@@ -105,4 +105,9 @@ public class PhysicalPlanDSL {
   public static LimitOperator limit(PhysicalPlan input, Integer limit, Integer offset) {
     return new LimitOperator(input, limit, offset);
   }
+
+  public static TakeOrderedOperator takeOrdered(PhysicalPlan input, Integer limit, Integer offset,
+                                                Pair<SortOption, Expression>... sorts) {
+    return new TakeOrderedOperator(input, limit, offset, Arrays.asList(sorts));
+  }
 }
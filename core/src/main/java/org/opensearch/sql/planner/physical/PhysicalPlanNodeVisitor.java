@@ -77,6 +77,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitTakeOrdered(TakeOrderedOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitMLCommons(PhysicalPlan node, C context) {
     return visitNode(node, context);
   }
@@ -6,11 +6,11 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -22,13 +22,13 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Project the fields specified in {@link ProjectOperator#projectList} from input.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class ProjectOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
@@ -37,6 +37,43 @@ public class ProjectOperator extends PhysicalPlan {
   @Getter
   private final List<NamedExpression> namedParseExpressions;
 
+  /**
+   * Parsed field which overrides the projected field of the same name.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Map<String, ParsedField> parsedFields = new HashMap<>();
+
+  /**
+   * Number of distinct parsers, each of which parses a source field once per row.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final int parserCount;
+
+  /**
+   * Constructor of ProjectOperator.
+   */
+  public ProjectOperator(PhysicalPlan input, List<NamedExpression> projectList,
+                         List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+
+    // The parse expressions of the same parse key share one parser
+    Map<List<Object>, Integer> parsers = new HashMap<>();
+    for (NamedExpression namedParseExpression : namedParseExpressions) {
+      ParseExpression parseExpression = (ParseExpression) namedParseExpression.getDelegated();
+      List<Object> parseKey = parseExpression.parseKey();
+      parsers.putIfAbsent(parseKey, parsers.size());
+      int parser = parsers.get(parseKey);
+      parsedFields.putIfAbsent(namedParseExpression.getNameOrAlias(),
+          new ParsedField(parseExpression, parser,
+              parseExpression.getIdentifier().valueOf().stringValue()));
+    }
+    this.parserCount = parsers.size();
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -54,38 +91,52 @@ public class ProjectOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+    return project(input.next());
+  }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> batch = input.nextBatch(maxSize);
+    batch.replaceAll(this::project);
+    return batch;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ExprValue project(ExprValue inputValue) {
+    BindingTuple bindingTuple = inputValue.bindingTuples();
+    LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+    Map<String, ExprValue>[] parsedValues = new Map[parserCount];
 
     // ParseExpression will always override NamedExpression when identifier conflicts
     // TODO needs a better implementation, see https://github.com/opensearch-project/sql/issues/458
     for (NamedExpression expr : projectList) {
-      ExprValue exprValue = expr.valueOf(inputValue.bindingTuples());
-      Optional<NamedExpression> optionalParseExpression = namedParseExpressions.stream()
-          .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
-          .findFirst();
-      if (optionalParseExpression.isEmpty()) {
-        mapBuilder.put(expr.getNameOrAlias(), exprValue);
+      String name = expr.getNameOrAlias();
+      ParsedField parsedField = parsedFields.get(name);
+      if (parsedField == null) {
+        ExprValueUtils.putField(valueMap, name, expr.valueOf(bindingTuple));
         continue;
       }
 
-      NamedExpression parseExpression = optionalParseExpression.get();
-      ExprValue sourceFieldValue = inputValue.bindingTuples()
-          .resolve(((ParseExpression) parseExpression.getDelegated()).getSourceField());
+      ParseExpression parseExpression = parsedField.parseExpression;
+      ExprValue sourceFieldValue = bindingTuple.resolve(parseExpression.getSourceField());
       if (sourceFieldValue.isMissing()) {
         // source field will be missing after stats command, read from inputValue if it exists
         // otherwise do nothing since it should not appear as a field
-        ExprValue tupleValue =
-            ExprValueUtils.getTupleValue(inputValue).get(parseExpression.getNameOrAlias());
+        ExprValue tupleValue = ExprValueUtils.getTupleValue(inputValue).get(name);
         if (tupleValue != null) {
-          mapBuilder.put(parseExpression.getNameOrAlias(), tupleValue);
+          ExprValueUtils.putField(valueMap, name, tupleValue);
         }
+      } else if (sourceFieldValue.isNull()) {
+        ExprValueUtils.putField(valueMap, name, ExprValueUtils.nullValue());
       } else {
-        ExprValue parsedValue = parseExpression.valueOf(inputValue.bindingTuples());
-        mapBuilder.put(parseExpression.getNameOrAlias(), parsedValue);
+        if (parsedValues[parsedField.parser] == null) {
+          parsedValues[parsedField.parser] = parseExpression.parseAll(sourceFieldValue);
+        }
+        ExprValueUtils.putField(
+            valueMap, name, parsedValues[parsedField.parser].get(parsedField.identifier));
       }
     }
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    return new ExprTupleValue(valueMap);
   }
 
   @Override
@@ -94,4 +145,14 @@ public class ProjectOperator extends PhysicalPlan {
         .map(expr -> new ExecutionEngine.Schema.Column(expr.getName(),
             expr.getAlias(), expr.type())).collect(Collectors.toList()));
   }
+
+  /**
+   * Field derived by parse expression, whose value is taken from the result of the parser.
+   */
+  @RequiredArgsConstructor
+  private static class ParsedField {
+    private final ParseExpression parseExpression;
+    private final int parser;
+    private final String identifier;
+  }
 }
@@ -8,9 +8,8 @@ package org.opensearch.sql.planner.physical;
 
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,14 +68,14 @@ public class RemoveOperator extends PhysicalPlan {
   public ExprValue next() {
     ExprValue inputValue = input.next();
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+      LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
       Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
       for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
         if (!nameRemoveList.contains(valueEntry.getKey())) {
-          mapBuilder.put(valueEntry);
+          valueMap.put(valueEntry.getKey(), valueEntry.getValue());
         }
       }
-      return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+      return new ExprTupleValue(valueMap);
     } else {
       return inputValue;
     }
@@ -8,9 +8,8 @@ package org.opensearch.sql.planner.physical;
 
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -75,15 +74,16 @@ public class RenameOperator extends PhysicalPlan {
     ExprValue inputValue = input.next();
     if (STRUCT == inputValue.type()) {
       Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+      LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
       for (String bindName : tupleValue.keySet()) {
         if (nameMapping.containsKey(bindName)) {
-          mapBuilder.put(nameMapping.get(bindName).getAttr(), tupleValue.get(bindName));
+          ExprValueUtils.putField(
+              valueMap, nameMapping.get(bindName).getAttr(), tupleValue.get(bindName));
         } else {
-          mapBuilder.put(bindName, tupleValue.get(bindName));
+          ExprValueUtils.putField(valueMap, bindName, tupleValue.get(bindName));
         }
       }
-      return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+      return new ExprTupleValue(valueMap);
     } else {
       return inputValue;
     }
@@ -9,27 +9,43 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
-import lombok.Builder;
+import java.util.Map;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Singular;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.Expression;
-import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.parse.ParseMemo;
+import org.opensearch.sql.planner.physical.spill.MergeIterator;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}.
  * The count indicate how many sorted result should been return.
+ *
+ * <p>If the {@link SpillConfig} is provided, the operator runs as an external merge sort. The
+ * buffered rows are sorted and spilled to disk as a run whenever the memory budget is exhausted
+ * or memory pressure is reported, and the runs are merged lazily in {@link SortOperator#next()}.
+ * The operator checks the memory pressure by itself, so its input is not decorated by a resource
+ * monitor which fails the query instead of spilling.</p>
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -42,6 +58,11 @@ public class SortOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude
   private final Sorter sorter;
   @EqualsAndHashCode.Exclude
+  private final SpillConfig spillConfig;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final List<SpillFile<SortEntry>> runs = new ArrayList<>();
+  @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
 
   /**
@@ -52,20 +73,22 @@ public class SortOperator extends PhysicalPlan {
    */
   public SortOperator(
       PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, null);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param spillConfig spill configuration, null means sorting in memory only
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, SpillConfig spillConfig) {
     this.input = input;
     this.sortList = sortList;
-    SorterBuilder sorterBuilder = Sorter.builder();
-    for (Pair<SortOption, Expression> pair : sortList) {
-      SortOption option = pair.getLeft();
-      ExprValueOrdering ordering =
-          ASC.equals(option.getSortOrder())
-              ? ExprValueOrdering.natural()
-              : ExprValueOrdering.natural().reverse();
-      ordering =
-          NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
-      sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
-    }
-    this.sorter = sorterBuilder.build();
+    this.sorter = Sorter.of(sortList);
+    this.spillConfig = spillConfig;
   }
 
   @Override
@@ -76,12 +99,59 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    List<SortEntry> buffer = new ArrayList<>();
     while (input.hasNext()) {
-      sorted.add(input.next());
+      if (spillConfig != null && spillConfig.shouldSpill(buffer.size())) {
+        buffer.sort(sorter);
+        runs.add(SpillFile.write(spillConfig.getDirectory(), buffer));
+        buffer = new ArrayList<>();
+      }
+      buffer.add(sorter.entry(input.next()));
     }
+    buffer.sort(sorter);
 
-    iterator = iterator(sorted);
+    if (runs.isEmpty()) {
+      iterator = Iterators.transform(buffer.iterator(), SortEntry::getRow);
+    } else {
+      mergeRuns();
+      List<Iterator<SortEntry>> sortedRuns = iterators(runs);
+      sortedRuns.add(buffer.iterator());
+      iterator = Iterators.transform(new MergeIterator<>(sortedRuns, sorter), SortEntry::getRow);
+    }
+  }
+
+  /**
+   * Merge the consecutive runs in passes until at most {@link SpillConfig#MAX_MERGE_FAN_IN} runs
+   * are left, so the final merge doesn't open too many files at once. The merged run takes the
+   * place of its runs to keep the input order of equal rows.
+   */
+  private void mergeRuns() {
+    while (runs.size() > SpillConfig.MAX_MERGE_FAN_IN) {
+      for (int i = 0; i < runs.size() - 1; i++) {
+        List<SpillFile<SortEntry>> group =
+            runs.subList(i, Math.min(i + SpillConfig.MAX_MERGE_FAN_IN, runs.size()));
+        SpillFile<SortEntry> merged = SpillFile.write(spillConfig.getDirectory(),
+            () -> new MergeIterator<>(iterators(group), sorter));
+        group.forEach(SpillFile::close);
+        group.clear();
+        runs.add(i, merged);
+      }
+    }
+  }
+
+  private static List<Iterator<SortEntry>> iterators(List<SpillFile<SortEntry>> sortedRuns) {
+    List<Iterator<SortEntry>> iterators = new ArrayList<>();
+    for (SpillFile<SortEntry> run : sortedRuns) {
+      iterators.add(run.iterator());
+    }
+    return iterators;
+  }
+
+  @Override
+  public void close() {
+    runs.forEach(SpillFile::close);
+    runs.clear();
+    super.close();
   }
 
   @Override
@@ -99,39 +169,163 @@ public class SortOperator extends PhysicalPlan {
     return iterator.next();
   }
 
-  @Builder
-  public static class Sorter implements Comparator<ExprValue> {
-    @Singular
-    private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
+  /**
+   * Sorter which compares the rows by the sort keys pre-computed in {@link SortEntry}. The sort
+   * keys of fixed-width types are also normalized to long, so they are compared without
+   * touching the {@link ExprValue}.
+   */
+  public static class Sorter implements Comparator<SortEntry> {
+    private final Expression[] expressions;
+    private final ExprValueOrdering[] orderings;
+    private final boolean[] ascending;
+    private final NormalizedKey[] normalizedKeys;
+    private final ParseMemo parseMemo = new ParseMemo();
+
+    private Sorter(List<Pair<SortOption, Expression>> sortList) {
+      int size = sortList.size();
+      this.expressions = new Expression[size];
+      this.orderings = new ExprValueOrdering[size];
+      this.ascending = new boolean[size];
+      this.normalizedKeys = new NormalizedKey[size];
+      for (int i = 0; i < size; i++) {
+        SortOption option = sortList.get(i).getLeft();
+        Expression expression = sortList.get(i).getRight();
+        ascending[i] = ASC.equals(option.getSortOrder());
+        ExprValueOrdering ordering =
+            ascending[i]
+                ? ExprValueOrdering.natural()
+                : ExprValueOrdering.natural().reverse();
+        orderings[i] =
+            NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
+        expressions[i] = expression;
+        // the normalized keys of one row are tracked in a long bit mask
+        normalizedKeys[i] = i < Long.SIZE ? NormalizedKey.of(expression.type()) : null;
+      }
+    }
+
+    /**
+     * Create the {@link Sorter} for the given sort list.
+     * @param sortList list of sort field with {@link SortOption}
+     * @return sorter which compares rows in the order defined by the sort list
+     */
+    public static Sorter of(List<Pair<SortOption, Expression>> sortList) {
+      return new Sorter(sortList);
+    }
+
+    /**
+     * Evaluate the sort keys of the row once.
+     * @param row input row
+     * @return row with its sort keys
+     */
+    public SortEntry entry(ExprValue row) {
+      Environment<Expression, ExprValue> env = parseMemo.of(row.bindingTuples());
+      ExprValue[] keys = new ExprValue[expressions.length];
+      long[] normalized = new long[expressions.length];
+      long normalizedMask = 0L;
+      for (int i = 0; i < expressions.length; i++) {
+        keys[i] = expressions[i].valueOf(env);
+        if (isNormalizable(i, keys[i])) {
+          normalized[i] = normalizedKeys[i].normalize(keys[i]);
+          normalizedMask |= 1L << i;
+        }
+      }
+      return new SortEntry(row, keys, normalized, normalizedMask);
+    }
 
     @Override
-    public int compare(ExprValue o1, ExprValue o2) {
-      for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
-        Expression expression = comparator.getKey();
-        int result =
-            comparator
-                .getValue()
-                .compare(
-                    expression.valueOf(o1.bindingTuples()), expression.valueOf(o2.bindingTuples()));
+    public int compare(SortEntry o1, SortEntry o2) {
+      for (int i = 0; i < expressions.length; i++) {
+        int result = compareKey(i, o1, o2);
         if (result != 0) {
           return result;
         }
       }
       return 0;
     }
+
+    private int compareKey(int i, SortEntry o1, SortEntry o2) {
+      if (normalizedKeys[i] == null || !o1.isNormalized(i) || !o2.isNormalized(i)) {
+        return orderings[i].compare(o1.keys[i], o2.keys[i]);
+      }
+
+      int result = Long.compare(o1.normalizedKeys[i], o2.normalizedKeys[i]);
+      if (result == 0 && !normalizedKeys[i].isExact()) {
+        return orderings[i].compare(o1.keys[i], o2.keys[i]);
+      }
+      return ascending[i] ? result : -result;
+    }
+
+    /**
+     * Only the value of the declared type is normalized, e.g. NULL, MISSING and the values of
+     * mismatched type are compared by {@link ExprValueOrdering}.
+     */
+    private boolean isNormalizable(int i, ExprValue value) {
+      return normalizedKeys[i] != null && value.type() == expressions[i].type();
+    }
+  }
+
+  /**
+   * Row with its sort keys evaluated by {@link Sorter#entry(ExprValue)}.
+   */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class SortEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Getter
+    private final ExprValue row;
+    private final ExprValue[] keys;
+    private final long[] normalizedKeys;
+    private final long normalizedMask;
+
+    private boolean isNormalized(int i) {
+      return (normalizedMask & (1L << i)) != 0;
+    }
   }
 
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
+  /**
+   * Normalize the value of fixed-width type to long which has the same natural order as the
+   * value. The order of an inexact normalized key is only used if the keys are not equal.
+   */
+  @RequiredArgsConstructor
+  enum NormalizedKey {
+    INTEGRAL(true) {
       @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
+      long normalize(ExprValue value) {
+        return value.longValue();
       }
-
+    },
+    FLOATING_POINT(true) {
       @Override
-      public ExprValue next() {
-        return result.poll();
+      long normalize(ExprValue value) {
+        long bits = Double.doubleToLongBits(value.doubleValue());
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+      }
+    },
+    TIMESTAMP(false) {
+      @Override
+      long normalize(ExprValue value) {
+        return value.timestampValue().getEpochSecond();
       }
     };
+
+    private static final Map<ExprType, NormalizedKey> TYPES =
+        new ImmutableMap.Builder<ExprType, NormalizedKey>()
+            .put(ExprCoreType.BYTE, INTEGRAL)
+            .put(ExprCoreType.SHORT, INTEGRAL)
+            .put(ExprCoreType.INTEGER, INTEGRAL)
+            .put(ExprCoreType.LONG, INTEGRAL)
+            .put(ExprCoreType.FLOAT, FLOATING_POINT)
+            .put(ExprCoreType.DOUBLE, FLOATING_POINT)
+            .put(ExprCoreType.TIMESTAMP, TIMESTAMP)
+            .build();
+
+    @Getter
+    private final boolean exact;
+
+    abstract long normalize(ExprValue value);
+
+    static NormalizedKey of(ExprType type) {
+      return TYPES.get(type);
+    }
   }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.SortEntry;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * TakeOrdered Operator. It is the fusion of {@link SortOperator} and {@link LimitOperator}, the
+ * input data is sorted by the sort fields in the {@link TakeOrderedOperator#sortList} and only
+ * the rows from {offset + 1} to {offset + limit} are returned.
+ *
+ * <p>Instead of sorting the whole input, the operator keeps a bounded max-heap of the best
+ * {offset + limit} rows seen so far, so the memory usage is independent of the input size.</p>
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class TakeOrderedOperator extends PhysicalPlan {
+  @Getter
+  private final PhysicalPlan input;
+
+  @Getter
+  private final List<Pair<SortOption, Expression>> sortList;
+  @Getter
+  private final Integer limit;
+  @Getter
+  private final Integer offset;
+  @EqualsAndHashCode.Exclude
+  private final Sorter sorter;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private PriorityQueue<SortEntry> heap;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private Iterator<ExprValue> iterator;
+
+  /**
+   * TakeOrdered Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param limit the limit value from LimitOperator
+   * @param offset the offset value from LimitOperator
+   * @param sortList list of sort field from SortOperator
+   */
+  public TakeOrderedOperator(
+      PhysicalPlan input,
+      Integer limit,
+      Integer offset,
+      List<Pair<SortOption, Expression>> sortList) {
+    this.input = input;
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+    this.sorter = Sorter.of(sortList);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTakeOrdered(this, context);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    long capacity = (long) limit + offset;
+    // the head of the heap is the worst row kept so far, it is evicted by any better row
+    heap = new PriorityQueue<>(sorter.reversed());
+    while (input.hasNext()) {
+      SortEntry entry = sorter.entry(input.next());
+      if (heap.size() < capacity) {
+        heap.add(entry);
+      } else if (!heap.isEmpty() && sorter.compare(entry, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(entry);
+      }
+    }
+
+    ExprValue[] sorted = new ExprValue[heap.size()];
+    for (int i = sorted.length - 1; i >= 0; i--) {
+      sorted[i] = heap.poll().getRow();
+    }
+    iterator = Arrays.asList(sorted).subList(Math.min(offset, sorted.length), sorted.length)
+        .iterator();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  /**
+   * Number of rows buffered in the bounded heap.
+   */
+  @VisibleForTesting
+  int bufferedRows() {
+    return heap.size();
+  }
+}
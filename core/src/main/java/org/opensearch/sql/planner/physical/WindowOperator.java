@@ -6,16 +6,18 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
@@ -92,20 +94,20 @@ public class WindowOperator extends PhysicalPlan {
   }
 
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
-    preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+    preserveAllOriginalColumns(valueMap);
+    addWindowFunctionResultColumn(valueMap);
+    return new ExprTupleValue(valueMap);
   }
 
-  private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
+  private void preserveAllOriginalColumns(Map<String, ExprValue> valueMap) {
     ExprValue inputValue = windowFrame.current();
-    inputValue.tupleValue().forEach(mapBuilder::put);
+    inputValue.tupleValue().forEach(valueMap::put);
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
+  private void addWindowFunctionResultColumn(Map<String, ExprValue> valueMap) {
     ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+    ExprValueUtils.putField(valueMap, windowFunction.getName(), exprValue);
   }
 
 }
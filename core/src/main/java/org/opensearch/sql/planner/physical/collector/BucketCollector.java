@@ -5,32 +5,46 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
-import com.google.common.collect.ImmutableList;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.TreeMap;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Collect Bucket from {@link BindingTuple}.
+ *
+ * <p>The buckets are kept in hash tables keyed by the composite bucket key. The single bucket
+ * key of integral or string type is specialized to skip building the composite key. The buckets
+ * are only sorted by key once in {@link BucketCollector#results()}.</p>
  */
-@RequiredArgsConstructor
 public class BucketCollector implements Collector {
 
+  private static final Set<ExprType> INTEGRAL_TYPES = ImmutableSet.of(BYTE, SHORT, INTEGER, LONG);
+
   /**
-   * Bucket Expression.
+   * Bucket Expressions.
    */
-  private final NamedExpression bucketExpr;
+  private final List<NamedExpression> bucketExprs;
 
   /**
    * Collector Constructor.
@@ -38,15 +52,37 @@ public class BucketCollector implements Collector {
   private final Supplier<Collector> supplier;
 
   /**
-   * Map from bucketKey to nested collector sorted by key to make sure
-   * final result is in order after traversal.
+   * Type of the single bucket key if it is specialized, otherwise null.
+   */
+  private final ExprType specializedType;
+
+  /**
+   * Buckets of the single integral key.
+   */
+  private final LongHashTable<Bucket> longBuckets = new LongHashTable<>();
+
+  /**
+   * Buckets of the single string key.
    */
-  private final Map<ExprValue, Collector> collectorMap = new TreeMap<>();
+  private final ObjectHashTable<String, Bucket> stringBuckets = new ObjectHashTable<>();
 
   /**
-   * Bucket Index.
+   * Buckets of the composite key, including the single key which is not specialized or whose
+   * value doesn't match the specialized type, e.g. NULL and MISSING.
    */
-  private int bucketIndex = 0;
+  private final ObjectHashTable<List<ExprValue>, Bucket> buckets = new ObjectHashTable<>();
+
+  /**
+   * Collector Constructor.
+   *
+   * @param bucketExprs bucket expressions
+   * @param supplier    supplier of the {@link Collector} in each bucket
+   */
+  public BucketCollector(List<NamedExpression> bucketExprs, Supplier<Collector> supplier) {
+    this.bucketExprs = bucketExprs;
+    this.supplier = supplier;
+    this.specializedType = specializedType(bucketExprs);
+  }
 
   /**
    * Collect Bucket from {@link BindingTuple}.
@@ -57,18 +93,101 @@ public class BucketCollector implements Collector {
    */
   @Override
   public void collect(BindingTuple input) {
-    ExprValue bucketKey = bucketKey(input);
-    collectorMap.putIfAbsent(bucketKey, supplier.get());
-    collectorMap.get(bucketKey).collect(input);
+    bucket(input).collector.collect(input);
+  }
+
+  /**
+   * Collect the input into the bucket of the key evaluated from the input before.
+   *
+   * @param key   bucket key of the input.
+   * @param input {@link BindingTuple}.
+   */
+  void collect(List<ExprValue> key, BindingTuple input) {
+    Bucket bucket =
+        (specializedType == null) ? compositeBucket(key) : specializedBucket(key.get(0));
+    bucket.collector.collect(input);
+  }
+
+  private Bucket bucket(BindingTuple input) {
+    if (specializedType == null) {
+      return compositeBucket(bucketKey(input));
+    }
+    return specializedBucket(bucketExprs.get(0).valueOf(input));
+  }
+
+  private Bucket specializedBucket(ExprValue value) {
+    if (isStringKey(value)) {
+      Bucket bucket = stringBuckets.get(value.stringValue());
+      if (bucket == null) {
+        bucket = new Bucket(Collections.singletonList(value), supplier.get());
+        stringBuckets.put(value.stringValue(), bucket);
+      }
+      return bucket;
+    } else if (isIntegralKey(value)) {
+      Bucket bucket = longBuckets.get(value.longValue());
+      if (bucket == null) {
+        bucket = new Bucket(Collections.singletonList(value), supplier.get());
+        longBuckets.put(value.longValue(), bucket);
+      }
+      return bucket;
+    } else {
+      return compositeBucket(Collections.singletonList(value));
+    }
+  }
+
+  private Bucket compositeBucket(List<ExprValue> key) {
+    Bucket bucket = buckets.get(key);
+    if (bucket == null) {
+      bucket = new Bucket(key, supplier.get());
+      buckets.put(key, bucket);
+    }
+    return bucket;
+  }
+
+  private List<ExprValue> bucketKey(BindingTuple input) {
+    ExprValue[] key = new ExprValue[bucketExprs.size()];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = bucketExprs.get(i).valueOf(input);
+    }
+    return Arrays.asList(key);
   }
 
   /**
-   * Bucket Key.
-   * @param tuple {@link BindingTuple}.
-   * @return Bucket Key.
+   * Add the bucket of the key with the given {@link Collector}, e.g. resume the bucket spilled
+   * before. The bucket must not exist.
+   *
+   * @param key       bucket key.
+   * @param collector {@link Collector} of the bucket.
    */
-  protected ExprValue bucketKey(BindingTuple tuple) {
-    return bucketExpr.valueOf(tuple);
+  void addBucket(List<ExprValue> key, Collector collector) {
+    Bucket bucket = new Bucket(key, collector);
+    ExprValue value = key.get(0);
+    if (isStringKey(value)) {
+      stringBuckets.put(value.stringValue(), bucket);
+    } else if (isIntegralKey(value)) {
+      longBuckets.put(value.longValue(), bucket);
+    } else {
+      buckets.put(key, bucket);
+    }
+  }
+
+  /**
+   * Iterate all the buckets.
+   *
+   * @param action action on the bucket key and {@link Collector} of the bucket.
+   */
+  void forEachBucket(BiConsumer<List<ExprValue>, Collector> action) {
+    Consumer<Bucket> consumer = bucket -> action.accept(bucket.key, bucket.collector);
+    longBuckets.forEach(consumer);
+    stringBuckets.forEach(consumer);
+    buckets.forEach(consumer);
+  }
+
+  /**
+   * Number of buckets.
+   */
+  int size() {
+    return longBuckets.size() + stringBuckets.size() + buckets.size();
   }
 
   /**
@@ -78,39 +197,58 @@ public class BucketCollector implements Collector {
    */
   @Override
   public List<ExprValue> results() {
-    ExprValue[] buckets = allocateBuckets();
-    for (Map.Entry<ExprValue, Collector> entry : collectorMap.entrySet()) {
-      ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
-      for (ExprValue tuple : entry.getValue().results()) {
+    List<Bucket> allBuckets = new ArrayList<>(size());
+    longBuckets.forEach(allBuckets::add);
+    stringBuckets.forEach(allBuckets::add);
+    buckets.forEach(allBuckets::add);
+    allBuckets.sort(bucketOrder());
+
+    List<ExprValue> results = new ArrayList<>();
+    for (Bucket bucket : allBuckets) {
+      for (ExprValue tuple : bucket.collector.results()) {
         LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
-        tmp.put(bucketExpr.getNameOrAlias(), entry.getKey());
+        for (int i = 0; i < bucketExprs.size(); i++) {
+          tmp.put(bucketExprs.get(i).getNameOrAlias(), bucket.key.get(i));
+        }
         tmp.putAll(tuple.tupleValue());
-        builder.add(ExprTupleValue.fromExprValueMap(tmp));
+        results.add(new ExprTupleValue(tmp));
       }
-      buckets[locateBucket(entry.getKey())] = new ExprCollectionValue(builder.build());
     }
-    return Arrays.stream(buckets)
-        .filter(Objects::nonNull)
-        .flatMap(v -> v.collectionValue().stream())
-        .collect(Collectors.toList());
+    return results;
   }
 
   /**
-   * Allocates Buckets for building results.
-   *
-   * @return buckets.
+   * Buckets are sorted by each bucket key in order, NULL and MISSING key first.
    */
-  protected ExprValue[] allocateBuckets() {
-    return new ExprValue[collectorMap.size()];
+  private Comparator<Bucket> bucketOrder() {
+    ExprValueOrdering ordering = ExprValueOrdering.natural().nullsFirst();
+    Comparator<Bucket> comparator = Comparator.comparing(b -> b.key.get(0), ordering);
+    for (int i = 1; i < bucketExprs.size(); i++) {
+      int index = i;
+      comparator = comparator.thenComparing(b -> b.key.get(index), ordering);
+    }
+    return comparator;
   }
 
-  /**
-   * Current Bucket index in allocated buckets.
-   *
-   * @param value bucket key.
-   * @return index.
-   */
-  protected int locateBucket(ExprValue value) {
-    return bucketIndex++;
+  private boolean isStringKey(ExprValue value) {
+    return STRING.equals(specializedType) && STRING.equals(value.type());
+  }
+
+  private boolean isIntegralKey(ExprValue value) {
+    return INTEGRAL_TYPES.contains(specializedType) && INTEGRAL_TYPES.contains(value.type());
+  }
+
+  private static ExprType specializedType(List<NamedExpression> bucketExprs) {
+    if (bucketExprs.size() != 1) {
+      return null;
+    }
+    ExprType type = bucketExprs.get(0).type();
+    return (STRING.equals(type) || INTEGRAL_TYPES.contains(type)) ? type : null;
+  }
+
+  @RequiredArgsConstructor
+  private static class Bucket {
+    private final List<ExprValue> key;
+    private final Collector collector;
   }
 }
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
-import com.google.common.collect.ImmutableList;
 import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprValue;
@@ -45,9 +44,7 @@ public interface Collector {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
-        return new BucketCollector(
-            buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+        return new BucketCollector(buckets, () -> new MetricCollector(aggregators));
       }
     }
   }
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.function.Consumer;
+
+/**
+ * Open addressing hash table with primitive long key. The key is stored unboxed and probed
+ * linearly, so the lookup doesn't allocate.
+ *
+ * @param <V> value type
+ */
+class LongHashTable<V> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+
+  private Object[] values = new Object[INITIAL_CAPACITY];
+
+  private int size = 0;
+
+  /**
+   * Get the value of the key.
+   *
+   * @param key key
+   * @return value or null if the key is absent
+   */
+  @SuppressWarnings("unchecked")
+  V get(long key) {
+    return (V) values[probe(keys, values, key)];
+  }
+
+  /**
+   * Put the value of the key which is absent in the table.
+   *
+   * @param key key
+   * @param value value, must be non-null
+   */
+  void put(long key, V value) {
+    int slot = probe(keys, values, key);
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size > values.length * 3 / 4) {
+      resize();
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Iterate all the values in the table.
+   */
+  @SuppressWarnings("unchecked")
+  void forEach(Consumer<V> action) {
+    for (Object value : values) {
+      if (value != null) {
+        action.accept((V) value);
+      }
+    }
+  }
+
+  private void resize() {
+    long[] newKeys = new long[keys.length * 2];
+    Object[] newValues = new Object[values.length * 2];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        int slot = probe(newKeys, newValues, keys[i]);
+        newKeys[slot] = keys[i];
+        newValues[slot] = values[i];
+      }
+    }
+    keys = newKeys;
+    values = newValues;
+  }
+
+  /**
+   * Find the slot of the key, or the empty slot where the key should be inserted.
+   */
+  private static int probe(long[] keys, Object[] values, long key) {
+    int mask = values.length - 1;
+    int slot = ObjectHashTable.mix(Long.hashCode(key)) & mask;
+    while (values[slot] != null && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.sql.planner.physical.collector;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -33,10 +34,21 @@ public class MetricCollector implements Collector {
    * @param aggregators aggregators.
    */
   public MetricCollector(List<NamedAggregator> aggregators) {
-    this.aggregators =
-        aggregators.stream()
-            .map(aggregator -> new AbstractMap.SimpleEntry<>(aggregator, aggregator.create()))
-            .collect(Collectors.toList());
+    this(aggregators,
+        aggregators.stream().map(NamedAggregator::create).collect(Collectors.toList()));
+  }
+
+  /**
+   * Constructor of {@link MetricCollector} which resumes from the given states.
+   *
+   * @param aggregators aggregators.
+   * @param states      state of each aggregator.
+   */
+  public MetricCollector(List<NamedAggregator> aggregators, List<AggregationState> states) {
+    this.aggregators = new ArrayList<>(aggregators.size());
+    for (int i = 0; i < aggregators.size(); i++) {
+      this.aggregators.add(new AbstractMap.SimpleEntry<>(aggregators.get(i), states.get(i)));
+    }
   }
 
   /**
@@ -59,6 +71,15 @@ public class MetricCollector implements Collector {
   public List<ExprValue> results() {
     LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
     aggregators.forEach(agg -> map.put(agg.getKey().getName(), agg.getValue().result()));
-    return Collections.singletonList(ExprTupleValue.fromExprValueMap(map));
+    return Collections.singletonList(new ExprTupleValue(map));
+  }
+
+  /**
+   * Get the state of each aggregator.
+   *
+   * @return list of {@link AggregationState}.
+   */
+  public List<AggregationState> states() {
+    return aggregators.stream().map(Map.Entry::getValue).collect(Collectors.toList());
   }
 }
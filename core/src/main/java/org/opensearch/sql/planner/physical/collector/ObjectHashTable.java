@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.function.Consumer;
+
+/**
+ * Open addressing hash table with object key. The hash code of the key is cached along with the
+ * key to skip most of the {@link Object#equals(Object)} calls while probing.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+class ObjectHashTable<K, V> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private Object[] keys = new Object[INITIAL_CAPACITY];
+
+  private int[] hashes = new int[INITIAL_CAPACITY];
+
+  private Object[] values = new Object[INITIAL_CAPACITY];
+
+  private int size = 0;
+
+  /**
+   * Get the value of the key.
+   *
+   * @param key key
+   * @return value or null if the key is absent
+   */
+  @SuppressWarnings("unchecked")
+  V get(K key) {
+    int hash = mix(key.hashCode());
+    return (V) values[probe(keys, hashes, values, key, hash)];
+  }
+
+  /**
+   * Put the value of the key which is absent in the table.
+   *
+   * @param key key
+   * @param value value, must be non-null
+   */
+  void put(K key, V value) {
+    int hash = mix(key.hashCode());
+    int slot = probe(keys, hashes, values, key, hash);
+    keys[slot] = key;
+    hashes[slot] = hash;
+    values[slot] = value;
+    if (++size > values.length * 3 / 4) {
+      resize();
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Iterate all the values in the table.
+   */
+  @SuppressWarnings("unchecked")
+  void forEach(Consumer<V> action) {
+    for (Object value : values) {
+      if (value != null) {
+        action.accept((V) value);
+      }
+    }
+  }
+
+  private void resize() {
+    Object[] newKeys = new Object[keys.length * 2];
+    int[] newHashes = new int[hashes.length * 2];
+    Object[] newValues = new Object[values.length * 2];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        int slot = probe(newKeys, newHashes, newValues, keys[i], hashes[i]);
+        newKeys[slot] = keys[i];
+        newHashes[slot] = hashes[i];
+        newValues[slot] = values[i];
+      }
+    }
+    keys = newKeys;
+    hashes = newHashes;
+    values = newValues;
+  }
+
+  /**
+   * Find the slot of the key, or the empty slot where the key should be inserted.
+   */
+  private static int probe(Object[] keys, int[] hashes, Object[] values, Object key, int hash) {
+    int mask = values.length - 1;
+    int slot = hash & mask;
+    while (values[slot] != null && (hashes[slot] != hash || !keys[slot].equals(key))) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Spread the bits of the hash code, the slot is taken from the low bits only.
+   */
+  static int mix(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
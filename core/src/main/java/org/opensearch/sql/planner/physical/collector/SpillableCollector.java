@@ -0,0 +1,373 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.opensearch.sql.utils.ExpressionUtils.PATH_SEP;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.planner.physical.spill.MergeIterator;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Collect buckets from rows like {@link BucketCollector}, and spill the buckets to disk once the
+ * number of buckets exceeds the memory budget of {@link SpillConfig} or memory pressure is
+ * reported.
+ *
+ * <p>On the first spill, the buckets are hash partitioned by the bucket key. The buckets of the
+ * first partition stay in memory, the {@link AggregationState}s of the other partitions are
+ * spilled and the following rows of these partitions are spilled with their bucket keys. Only
+ * the fields read by the aggregators are spilled, or the whole row if they can't be told from
+ * the aggregator expressions. If the first partition exceeds the memory budget again, it is
+ * spilled as well. In {@link #results()}, each
+ * spilled partition is restored from its states and replays its rows, one partition at a time,
+ * and its sorted results are spilled again. The sorted partitions are merged lazily, so the
+ * results of the spilled partitions are never held in memory at once.</p>
+ */
+public class SpillableCollector implements Closeable {
+
+  /**
+   * Number of hash partitions once spilling starts.
+   */
+  static final int PARTITIONS = 16;
+
+  private final List<NamedExpression> bucketExprs;
+
+  private final List<NamedAggregator> aggregators;
+
+  private final SpillConfig spillConfig;
+
+  /**
+   * Fields read by the aggregators by the path resolved first, null if unknown.
+   */
+  private final Map<String, ReferenceExpression> inputFields;
+
+  /**
+   * Buckets in memory. It holds all the buckets before spilling and the buckets of the first
+   * partition after spilling, null if the first partition is spilled too.
+   */
+  private BucketCollector resident;
+
+  /**
+   * Spilled partitions, null before spilling. The first partition is null until it is spilled.
+   */
+  private Partition[] partitions;
+
+  /**
+   * SpillableCollector Constructor.
+   *
+   * @param bucketExprs bucket expressions.
+   * @param aggregators aggregators.
+   * @param spillConfig spill configuration.
+   */
+  public SpillableCollector(List<NamedExpression> bucketExprs, List<NamedAggregator> aggregators,
+                            SpillConfig spillConfig) {
+    this.bucketExprs = bucketExprs;
+    this.aggregators = aggregators;
+    this.spillConfig = spillConfig;
+    this.inputFields = inputFields(aggregators);
+    this.resident = newBucketCollector();
+  }
+
+  /**
+   * Collect the row into its bucket.
+   *
+   * @param row input row.
+   */
+  public void collect(ExprValue row) {
+    BindingTuple tuple = row.bindingTuples();
+    int size;
+    if (partitions == null) {
+      size = resident.size();
+      resident.collect(tuple);
+    } else {
+      List<ExprValue> key = bucketKey(tuple);
+      Partition partition = partitions[partition(key)];
+      if (partition != null) {
+        partition.rows.append(new SpilledRow(key, inputRow(row, tuple)));
+        return;
+      }
+      size = resident.size();
+      resident.collect(key, tuple);
+    }
+    if (resident.size() > size && spillConfig.shouldSpill(resident.size())) {
+      spill();
+    }
+  }
+
+  /**
+   * Row of the fields read by the aggregators only, or the whole row if they are unknown.
+   */
+  private ExprValue inputRow(ExprValue row, BindingTuple tuple) {
+    if (inputFields == null) {
+      return row;
+    }
+    LinkedHashMap<String, ExprValue> values = new LinkedHashMap<>();
+    inputFields.forEach((path, field) -> values.put(path, field.valueOf(tuple)));
+    return new ExprTupleValue(values);
+  }
+
+  /**
+   * Spill all the partitions except the first one on the first spill, and spill the first
+   * partition on the second spill.
+   */
+  private void spill() {
+    List<List<SpilledBucket>> spilled = new ArrayList<>(PARTITIONS);
+    for (int i = 0; i < PARTITIONS; i++) {
+      spilled.add(new ArrayList<>());
+    }
+    BucketCollector first = newBucketCollector();
+    boolean spillFirst = (partitions != null);
+    resident.forEachBucket((key, collector) -> {
+      int partition = partition(key);
+      if (partition == 0 && !spillFirst) {
+        first.addBucket(key, collector);
+      } else {
+        spilled.get(partition).add(
+            new SpilledBucket(key, ((MetricCollector) collector).states()));
+      }
+    });
+
+    if (spillFirst) {
+      partitions[0] = new Partition(spilled.get(0));
+      resident = null;
+    } else {
+      partitions = new Partition[PARTITIONS];
+      for (int i = 1; i < PARTITIONS; i++) {
+        partitions[i] = new Partition(spilled.get(i));
+      }
+      resident = first;
+    }
+  }
+
+  /**
+   * Get result from all the buckets, sorted by bucket key.
+   *
+   * @return iterator of {@link ExprValue}.
+   */
+  public Iterator<ExprValue> results() {
+    if (partitions == null) {
+      return resident.results().iterator();
+    }
+
+    List<Iterator<ExprValue>> sortedPartitions = new ArrayList<>();
+    if (resident != null) {
+      sortedPartitions.add(resident.results().iterator());
+      resident = null;
+    }
+    for (Partition partition : partitions) {
+      if (partition != null) {
+        sortedPartitions.add(partition.results());
+      }
+    }
+    return new MergeIterator<>(sortedPartitions, resultOrder());
+  }
+
+  /**
+   * Delete the spill files.
+   */
+  @Override
+  public void close() {
+    if (partitions != null) {
+      for (Partition partition : partitions) {
+        if (partition != null) {
+          partition.close();
+        }
+      }
+    }
+  }
+
+  private Comparator<ExprValue> resultOrder() {
+    ExprValueOrdering ordering = ExprValueOrdering.natural().nullsFirst();
+    Comparator<ExprValue> comparator = null;
+    for (NamedExpression bucketExpr : bucketExprs) {
+      String name = bucketExpr.getNameOrAlias();
+      Comparator<ExprValue> keyOrder =
+          Comparator.comparing(row -> row.tupleValue().get(name), ordering);
+      comparator = (comparator == null) ? keyOrder : comparator.thenComparing(keyOrder);
+    }
+    return comparator;
+  }
+
+  private List<ExprValue> bucketKey(BindingTuple tuple) {
+    ExprValue[] key = new ExprValue[bucketExprs.size()];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = bucketExprs.get(i).valueOf(tuple);
+    }
+    return Arrays.asList(key);
+  }
+
+  private BucketCollector newBucketCollector() {
+    return new BucketCollector(bucketExprs, () -> new MetricCollector(aggregators));
+  }
+
+  private static int partition(List<ExprValue> key) {
+    return (ObjectHashTable.mix(key.hashCode()) >>> 16) % PARTITIONS;
+  }
+
+  private static Map<String, ReferenceExpression> inputFields(List<NamedAggregator> aggregators) {
+    Map<String, ReferenceExpression> fields = new LinkedHashMap<>();
+    InputFieldFinder finder = new InputFieldFinder();
+    for (NamedAggregator aggregator : aggregators) {
+      if (!aggregator.accept(finder, fields)) {
+        return null;
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * Bucket key and aggregation states of a spilled bucket.
+   */
+  @RequiredArgsConstructor
+  private static class SpilledBucket implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ExprValue> key;
+    private final List<AggregationState> states;
+  }
+
+  /**
+   * Bucket key and the input of the aggregators of a row spilled.
+   */
+  @RequiredArgsConstructor
+  private static class SpilledRow implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ExprValue> key;
+    private final ExprValue row;
+  }
+
+  /**
+   * Finder of the fields read by the aggregators. A field is keyed by its whole path, which
+   * {@link ReferenceExpression} resolves first on a tuple. It returns false if the expression
+   * may read any field not found, e.g. an expression unknown to the finder.
+   */
+  private static class InputFieldFinder
+      extends ExpressionNodeVisitor<Boolean, Map<String, ReferenceExpression>> {
+
+    @Override
+    public Boolean visitNode(Expression node, Map<String, ReferenceExpression> fields) {
+      return false;
+    }
+
+    @Override
+    public Boolean visitLiteral(LiteralExpression node, Map<String, ReferenceExpression> fields) {
+      return true;
+    }
+
+    @Override
+    public Boolean visitReference(ReferenceExpression node,
+                                  Map<String, ReferenceExpression> fields) {
+      fields.putIfAbsent(String.join(PATH_SEP, node.getPaths()), node);
+      return true;
+    }
+
+    @Override
+    public Boolean visitParse(ParseExpression node, Map<String, ReferenceExpression> fields) {
+      return node.getSourceField().accept(this, fields);
+    }
+
+    @Override
+    public Boolean visitFunction(FunctionExpression node,
+                                 Map<String, ReferenceExpression> fields) {
+      return allOf(node.getArguments(), fields);
+    }
+
+    @Override
+    public Boolean visitAggregator(Aggregator<?> node, Map<String, ReferenceExpression> fields) {
+      return allOf(node.getArguments(), fields)
+          && (node.condition() == null || node.condition().accept(this, fields));
+    }
+
+    @Override
+    public Boolean visitNamedAggregator(NamedAggregator node,
+                                        Map<String, ReferenceExpression> fields) {
+      return visitAggregator(node, fields);
+    }
+
+    private boolean allOf(List<Expression> expressions, Map<String, ReferenceExpression> fields) {
+      for (Expression expression : expressions) {
+        if (!expression.accept(this, fields)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Spilled partition. It holds the spilled buckets and the rows collected after spilling, and
+   * the sorted results once aggregated.
+   */
+  private class Partition {
+    private final SpillFile<SpilledBucket> buckets;
+    private final SpillFile.Writer<SpilledRow> rows;
+    private SpillFile<SpilledRow> finishedRows;
+    private SpillFile<ExprValue> results;
+
+    Partition(List<SpilledBucket> spilled) {
+      this.buckets = SpillFile.write(spillConfig.getDirectory(), spilled);
+      this.rows = SpillFile.writer(spillConfig.getDirectory());
+    }
+
+    /**
+     * Restore the spilled buckets, collect the spilled rows into them and spill the results.
+     */
+    Iterator<ExprValue> results() {
+      BucketCollector collector = newBucketCollector();
+      Iterator<SpilledBucket> spilledBuckets = buckets.iterator();
+      while (spilledBuckets.hasNext()) {
+        SpilledBucket bucket = spilledBuckets.next();
+        collector.addBucket(bucket.key, new MetricCollector(aggregators, bucket.states));
+      }
+
+      finishedRows = rows.finish();
+      Iterator<SpilledRow> spilledRows = finishedRows.iterator();
+      while (spilledRows.hasNext()) {
+        SpilledRow row = spilledRows.next();
+        collector.collect(row.key, row.row.bindingTuples());
+      }
+      results = SpillFile.write(spillConfig.getDirectory(), collector.results());
+      return results.iterator();
+    }
+
+    void close() {
+      buckets.close();
+      if (finishedRows == null) {
+        rows.close();
+      } else {
+        finishedRows.close();
+      }
+      if (results != null) {
+        results.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * K-way merge of the sorted iterators. Objects comparing equal are returned in the order of the
+ * iterators, so the merge keeps the input order of equal objects.
+ *
+ * @param <T> type of the merged object
+ */
+public class MergeIterator<T> implements Iterator<T> {
+  private final List<? extends Iterator<T>> iterators;
+  private final PriorityQueue<Pair<T, Integer>> heads;
+
+  /**
+   * Merge the sorted iterators.
+   *
+   * @param iterators  iterators sorted by the comparator
+   * @param comparator comparator of the objects
+   */
+  public MergeIterator(List<? extends Iterator<T>> iterators, Comparator<? super T> comparator) {
+    this.iterators = iterators;
+    this.heads = new PriorityQueue<>(Math.max(1, iterators.size()), (o1, o2) -> {
+      int result = comparator.compare(o1.getLeft(), o2.getLeft());
+      return result != 0 ? result : Integer.compare(o1.getRight(), o2.getRight());
+    });
+    for (int i = 0; i < iterators.size(); i++) {
+      advance(i);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public T next() {
+    Pair<T, Integer> head = heads.poll();
+    advance(head.getRight());
+    return head.getLeft();
+  }
+
+  private void advance(int i) {
+    Iterator<T> iterator = iterators.get(i);
+    if (iterator.hasNext()) {
+      heads.add(Pair.of(iterator.next(), i));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.nio.file.Path;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.monitor.ResourceMonitor;
+
+/**
+ * Spill configuration of the memory intensive physical operators. An operator configured with
+ * it writes the rows buffered in memory to temporary files under {@link SpillConfig#directory}
+ * once it buffers {@link SpillConfig#maxRowsInMemory} rows, or at least
+ * {@link SpillConfig#MIN_ROWS_TO_SPILL} rows when the {@link ResourceMonitor} reports memory
+ * pressure.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class SpillConfig {
+
+  /**
+   * How many rows to buffer between two resource checks.
+   */
+  public static final int NUMBER_OF_ROWS_TO_CHECK = 1000;
+
+  /**
+   * Min number of rows buffered before spilling them on memory pressure, so the pressure doesn't
+   * break the input into too many small runs.
+   */
+  public static final int MIN_ROWS_TO_SPILL = 10_000;
+
+  /**
+   * Max number of spilled runs read at once when merging them.
+   */
+  public static final int MAX_MERGE_FAN_IN = 64;
+
+  /**
+   * Directory where the temporary spill files are created.
+   */
+  private final Path directory;
+
+  /**
+   * Max number of rows buffered in memory before spilling them to disk.
+   */
+  private final int maxRowsInMemory;
+
+  /**
+   * Resource monitor which reports memory pressure.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final ResourceMonitor monitor;
+
+  /**
+   * Whether the operator should spill the rows buffered in memory.
+   *
+   * @param bufferedRows number of rows buffered in memory
+   * @return true if the memory budget is exhausted or resource is not healthy
+   */
+  public boolean shouldSpill(int bufferedRows) {
+    if (bufferedRows == 0) {
+      return false;
+    }
+    return bufferedRows >= maxRowsInMemory
+        || (bufferedRows >= MIN_ROWS_TO_SPILL
+            && bufferedRows % NUMBER_OF_ROWS_TO_CHECK == 0 && !monitor.isHealthy());
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Temporary file holding a sequence of spilled objects. The objects are read back in the same
+ * order they were written, and the file is deleted on {@link SpillFile#close()}.
+ *
+ * @param <T> type of the spilled object
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class SpillFile<T extends Serializable> implements Closeable {
+
+  private static final String FILE_PREFIX = "sql-spill-";
+
+  /**
+   * How many objects to write before resetting the object stream, so the handle table of the
+   * stream doesn't keep every written object reachable.
+   */
+  private static final int NUMBER_OF_OBJECTS_TO_RESET = 1000;
+
+  @Getter
+  private final Path path;
+
+  /**
+   * Number of objects in the file.
+   */
+  @Getter
+  private final int size;
+
+  private ObjectInputStream reader;
+
+  /**
+   * Write the objects to a new temporary file in the given directory.
+   *
+   * @param directory directory of the spill file, created if not exist
+   * @param objects   objects to write
+   * @return spill file
+   */
+  public static <T extends Serializable> SpillFile<T> write(Path directory, Iterable<T> objects) {
+    Writer<T> writer = writer(directory);
+    try {
+      for (T object : objects) {
+        writer.append(object);
+      }
+    } catch (RuntimeException e) {
+      writer.close();
+      throw e;
+    }
+    return writer.finish();
+  }
+
+  /**
+   * Delete the spill files left in the directory, e.g. by a node which stopped in the middle of
+   * a query. It should only be called before any query runs.
+   *
+   * @param directory directory of the spill files
+   */
+  public static void deleteAll(Path directory) {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete spill files in directory: " + directory,
+          e);
+    }
+  }
+
+  /**
+   * Create a writer which appends objects to a new temporary file in the given directory one by
+   * one, for the operator which doesn't buffer the objects to spill.
+   *
+   * @param directory directory of the spill file, created if not exist
+   * @return spill file writer
+   */
+  public static <T extends Serializable> Writer<T> writer(Path directory) {
+    try {
+      Files.createDirectories(directory);
+      Path path = Files.createTempFile(directory, FILE_PREFIX, ".bin");
+      return new Writer<>(directory, path, new ObjectOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(path))));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to spill to directory: " + directory, e);
+    }
+  }
+
+  /**
+   * Read the objects back from the file. The file can only be read once.
+   *
+   * @return iterator of the spilled objects
+   */
+  public Iterator<T> iterator() {
+    try {
+      reader = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to open spill file: " + path, e);
+    }
+
+    return new Iterator<T>() {
+      private int count = 0;
+
+      @Override
+      public boolean hasNext() {
+        return count < size;
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public T next() {
+        try {
+          count++;
+          return (T) reader.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+          throw new IllegalStateException("Failed to read spill file: " + path, e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Close the reader if any and delete the file.
+   */
+  @Override
+  public void close() {
+    try {
+      if (reader != null) {
+        reader.close();
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete spill file: " + path, e);
+    }
+  }
+
+  /**
+   * Writer of the spill file. The file is complete after {@link Writer#finish()}, otherwise it
+   * is deleted on {@link Writer#close()}.
+   *
+   * @param <T> type of the spilled object
+   */
+  @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+  public static class Writer<T extends Serializable> implements Closeable {
+    private final Path directory;
+
+    private final Path path;
+
+    private final ObjectOutputStream output;
+
+    /**
+     * Number of objects written.
+     */
+    @Getter
+    private int size = 0;
+
+    /**
+     * Append the object to the file.
+     *
+     * @param object object to write
+     */
+    public void append(T object) {
+      try {
+        output.writeObject(object);
+        if (++size % NUMBER_OF_OBJECTS_TO_RESET == 0) {
+          output.reset();
+        }
+      } catch (IOException e) {
+        close();
+        throw new IllegalStateException("Failed to spill to directory: " + directory, e);
+      }
+    }
+
+    /**
+     * Flush the objects written and complete the file.
+     *
+     * @return spill file
+     */
+    public SpillFile<T> finish() {
+      try {
+        output.close();
+      } catch (IOException e) {
+        close();
+        throw new IllegalStateException("Failed to spill to directory: " + directory, e);
+      }
+      return new SpillFile<>(path, size);
+    }
+
+    /**
+     * Abandon the file which is not finished.
+     */
+    @Override
+    public void close() {
+      try {
+        output.close();
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to delete spill file: " + path, e);
+      }
+    }
+  }
+}
@@ -6,14 +6,30 @@
 
 package org.opensearch.sql.utils;
 
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.SerializableBiFunction;
+import org.opensearch.sql.expression.function.SerializableFunction;
 
 @UtilityClass
 public class OperatorUtils {
+  /**
+   * Max number of compiled patterns cached for the pattern argument which is not a literal.
+   */
+  private static final int MAX_CACHED_PATTERNS = 100;
+
+  private static final char DEFAULT_ESCAPE = '\\';
+
   /**
    * Wildcard pattern matcher util.
    * Percent (%) character for wildcard,
@@ -22,10 +38,7 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return ExprBooleanValue.of(compileLike(pattern.stringValue()).matches(text.stringValue()));
   }
 
   /**
@@ -34,11 +47,193 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
-    return new ExprIntegerValue(Pattern.compile(pattern.stringValue()).matcher(text.stringValue())
-                    .matches() ? 1 : 0);
+    return new ExprIntegerValue(
+        compileRegexp(pattern.stringValue()).matches(text.stringValue()) ? 1 : 0);
   }
 
-  private static final char DEFAULT_ESCAPE = '\\';
+  /**
+   * Wildcard pattern matcher of the LIKE function bound to its pattern argument. The pattern is
+   * compiled once if it is a literal, otherwise the compiled patterns are cached.
+   * @param pattern pattern argument.
+   * @return function of text and pattern value which returns if text matches pattern.
+   */
+  public static SerializableBiFunction<ExprValue, ExprValue, ExprValue> like(Expression pattern) {
+    SerializableFunction<String, StringMatcher> matchers =
+        matchers(pattern, OperatorUtils::compileLike);
+    return (text, patternValue) -> ExprBooleanValue.of(
+        matchers.apply(patternValue.stringValue()).matches(text.stringValue()));
+  }
+
+  /**
+   * Regular expression matcher of the REGEXP function bound to its pattern argument. The pattern
+   * is compiled once if it is a literal, otherwise the compiled patterns are cached.
+   * @param pattern pattern argument.
+   * @return function of text and pattern value which returns 1 if text matches pattern; else 0.
+   */
+  public static SerializableBiFunction<ExprValue, ExprValue, ExprValue> regexp(
+      Expression pattern) {
+    SerializableFunction<String, StringMatcher> matchers =
+        matchers(pattern, OperatorUtils::compileRegexp);
+    return (text, patternValue) -> new ExprIntegerValue(
+        matchers.apply(patternValue.stringValue()).matches(text.stringValue()) ? 1 : 0);
+  }
+
+  private static SerializableFunction<String, StringMatcher> matchers(
+      Expression pattern, SerializableFunction<String, StringMatcher> compiler) {
+    if (pattern instanceof LiteralExpression
+        && ExprCoreType.STRING.equals(pattern.valueOf().type())) {
+      StringMatcher matcher = compiler.apply(pattern.valueOf().stringValue());
+      return patternValue -> matcher;
+    }
+    return new MatcherCache(compiler);
+  }
+
+  /**
+   * Compile the wildcard pattern. The pattern which is a literal with leading and/or trailing
+   * percent only is matched without regular expression.
+   */
+  static StringMatcher compileLike(String pattern) {
+    Pattern regex = Pattern.compile(patternToRegex(pattern), Pattern.CASE_INSENSITIVE);
+    boolean anyPrefix = pattern.startsWith("%");
+    boolean anySuffix = pattern.length() > 1 && pattern.endsWith("%");
+    String literal = pattern.substring(
+        anyPrefix ? 1 : 0, anySuffix ? pattern.length() - 1 : pattern.length());
+    if (!isPlainLiteral(literal)) {
+      return text -> regex.matcher(text).matches();
+    }
+    return new LiteralMatcher(literal, anyPrefix, anySuffix, regex);
+  }
+
+  static StringMatcher compileRegexp(String pattern) {
+    Pattern regex = Pattern.compile(pattern);
+    return text -> regex.matcher(text).matches();
+  }
+
+  /**
+   * Whether the string has no wildcard, escape or the regular expression meta character which
+   * {@link #patternToRegex(String)} doesn't escape.
+   */
+  private static boolean isPlainLiteral(String literal) {
+    for (int i = 0; i < literal.length(); i++) {
+      switch (literal.charAt(i)) {
+        case '%':
+        case '_':
+        case DEFAULT_ESCAPE:
+        case '?':
+        case '{':
+        case '}':
+          return false;
+        default:
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compiled pattern which matches the whole text.
+   */
+  public interface StringMatcher extends Serializable {
+    boolean matches(String text);
+  }
+
+  /**
+   * Matcher of the wildcard pattern in the shape of literal, literal%, %literal or %literal%.
+   * Case is ignored for US-ASCII characters only, the same as the compiled regular expression.
+   * Wildcard doesn't match line terminators in regular expression, so the text with line
+   * terminator is still matched by the regular expression.
+   */
+  @RequiredArgsConstructor
+  private static class LiteralMatcher implements StringMatcher {
+    private static final long serialVersionUID = 1L;
+
+    private final String literal;
+    private final boolean anyPrefix;
+    private final boolean anySuffix;
+    private final Pattern regex;
+
+    @Override
+    public boolean matches(String text) {
+      int offset = text.length() - literal.length();
+      if (offset < 0) {
+        return false;
+      } else if (!anyPrefix && !anySuffix) {
+        return offset == 0 && regionMatches(text, 0);
+      } else if (hasLineTerminator(text)) {
+        return regex.matcher(text).matches();
+      } else if (!anyPrefix) {
+        return regionMatches(text, 0);
+      } else if (!anySuffix) {
+        return regionMatches(text, offset);
+      }
+      for (int i = 0; i <= offset; i++) {
+        if (regionMatches(text, i)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean regionMatches(String text, int offset) {
+      for (int i = 0; i < literal.length(); i++) {
+        char c1 = text.charAt(offset + i);
+        char c2 = literal.charAt(i);
+        if (c1 != c2 && !(isAsciiLetter(c1) && (c1 ^ 0x20) == c2)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+      return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean hasLineTerminator(String text) {
+      for (int i = 0; i < text.length(); i++) {
+        switch (text.charAt(i)) {
+          case '\n':
+          case '\r':
+          case '\u0085':
+          case '\u2028':
+          case '\u2029':
+            return true;
+          default:
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * LRU cache of the compiled patterns. The function expression and its cache may be shared by
+   * the threads evaluating the same query, so the access is synchronized.
+   */
+  @RequiredArgsConstructor
+  private static class MatcherCache implements SerializableFunction<String, StringMatcher> {
+    private static final long serialVersionUID = 1L;
+
+    private final SerializableFunction<String, StringMatcher> compiler;
+
+    private final LruMap cache = new LruMap();
+
+    @Override
+    public synchronized StringMatcher apply(String pattern) {
+      return cache.computeIfAbsent(pattern, compiler);
+    }
+  }
+
+  private static class LruMap extends LinkedHashMap<String, StringMatcher> {
+    private static final long serialVersionUID = 1L;
+
+    LruMap() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, StringMatcher> eldest) {
+      return size() > MAX_CACHED_PATTERNS;
+    }
+  }
 
   private static String patternToRegex(String patternString) {
     StringBuilder regex = new StringBuilder(patternString.length() * 2);
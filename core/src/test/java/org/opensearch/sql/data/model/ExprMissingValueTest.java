@@ -9,12 +9,14 @@ package org.opensearch.sql.data.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
@@ -55,4 +57,9 @@ class ExprMissingValueTest {
         () -> compare(LITERAL_MISSING, LITERAL_MISSING));
     assertEquals("invalid to call compare operation on missing value", exception.getMessage());
   }
+
+  @Test
+  public void deserializeToSingleton() {
+    assertSame(LITERAL_MISSING, SerializationUtils.roundtrip(LITERAL_MISSING));
+  }
 }
@@ -9,12 +9,14 @@ package org.opensearch.sql.data.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
@@ -54,4 +56,9 @@ public class ExprNullValueTest {
         () -> compare(LITERAL_NULL, LITERAL_NULL));
     assertEquals("invalid to call compare operation on null value", exception.getMessage());
   }
+
+  @Test
+  public void deserializeToSingleton() {
+    assertSame(LITERAL_NULL, SerializationUtils.roundtrip(LITERAL_NULL));
+  }
 }
@@ -256,5 +256,7 @@ public class ExprValueUtilsTest {
         new ExprDatetimeValue("2012-08-07 18:00:00").hashCode());
     assertEquals(new ExprTimestampValue("2012-08-07 18:00:00").hashCode(),
         new ExprTimestampValue("2012-08-07 18:00:00").hashCode());
+    assertEquals(new ExprIntervalValue(Duration.ofHours(1)).hashCode(),
+        new ExprIntervalValue(Duration.ofHours(1)).hashCode());
   }
 }
@@ -27,6 +27,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.takeOrdered;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -226,6 +227,25 @@ class ExplainTest extends ExpressionTestBase {
     );
   }
 
+  @Test
+  void can_explain_take_ordered() {
+    Pair<Sort.SortOption, Expression> sort = ImmutablePair.of(
+        DEFAULT_ASC, ref("a", INTEGER));
+    PhysicalPlan plan = takeOrdered(tableScan, 10, 5, sort);
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "TakeOrderedOperator",
+                ImmutableMap.of("limit", 10, "offset", 5,
+                    "sortList", ImmutableMap.of(
+                        "a", ImmutableMap.of(
+                            "sortOrder", "ASC",
+                            "nullOrder", "NULL_FIRST"))),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan)
+    );
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
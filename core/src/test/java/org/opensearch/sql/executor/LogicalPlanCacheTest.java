@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.remove;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.window;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.dsl.AstDSL;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.ast.tree.UnresolvedPlan;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.storage.Table;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class LogicalPlanCacheTest {
+
+  private final LogicalPlanCache cache = new LogicalPlanCache(2);
+
+  private final AtomicInteger analyzeCount = new AtomicInteger();
+
+  private final FunctionProperties functionProperties = new FunctionProperties();
+
+  @Mock
+  private Table table;
+
+  @Test
+  void analyze_same_plan_once_and_return_copies() {
+    LogicalPlan plan =
+        limit(
+            rareTopN(
+                sort(
+                    eval(
+                        remove(
+                            project(
+                                rename(
+                                    dedupe(
+                                        aggregation(
+                                            highlight(
+                                                filter(
+                                                    relation("test", table),
+                                                    DSL.equal(ref("age", INTEGER), literal(30))),
+                                                literal("*"), ImmutableMap.of()),
+                                            ImmutableList.of(
+                                                named("count", DSL.count(ref("age", INTEGER))
+                                                    .condition(DSL.greater(
+                                                        ref("age", INTEGER), literal(10)))),
+                                                named("avg", DSL.avg(ref("age", INTEGER)))),
+                                            ImmutableList.of(named("name", ref("name", STRING)))),
+                                        ref("name", STRING)),
+                                    ImmutableMap.of(ref("count", INTEGER), ref("cnt", INTEGER))),
+                                named("cnt", ref("cnt", INTEGER)),
+                                named("name", ref("name", STRING))),
+                            ref("cnt", INTEGER)),
+                        ImmutablePair.of(ref("abs", INTEGER), DSL.abs(ref("cnt", INTEGER)))),
+                    Pair.of(SortOption.DEFAULT_ASC, ref("name", STRING))),
+                CommandType.TOP, ImmutableList.of(), ref("name", STRING)),
+            10, 0);
+    UnresolvedPlan ast = AstDSL.relation("test");
+
+    LogicalPlan analyzed = cache.get(ast, 1L, analyzer(plan));
+    assertSame(plan, analyzed);
+    LogicalPlan copy = cache.get(ast, 1L, analyzer(plan));
+    assertEquals(plan, copy);
+    assertNotSame(plan, copy);
+    assertNotSame(plan.getChild().get(0), copy.getChild().get(0));
+    assertNotSame(copy, cache.get(ast, 1L, analyzer(plan)));
+
+    assertEquals(1, analyzeCount.get());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  void cache_plan_of_values() {
+    LogicalPlan plan = values(ImmutableList.of(literal(1)));
+    UnresolvedPlan ast = AstDSL.values(ImmutableList.of(AstDSL.intLiteral(1)));
+    cache.get(ast, 1L, analyzer(plan));
+    assertEquals(plan, cache.get(ast, 1L, analyzer(plan)));
+    assertEquals(1, analyzeCount.get());
+  }
+
+  @Test
+  void plan_with_stateful_operator_is_not_cached() {
+    WindowDefinition definition = new WindowDefinition(ImmutableList.of(), ImmutableList.of());
+    LogicalPlan plan = project(
+        window(relation("test", table), named("row_number", DSL.rowNumber()), definition),
+        named("row_number", ref("row_number", INTEGER)));
+    assertNotCached(plan);
+  }
+
+  @Test
+  void plan_depending_on_query_time_is_not_cached() {
+    Expression now = DSL.now(functionProperties);
+    assertNotCached(filter(relation("test", table),
+        DSL.less(ref("time", DATETIME), now)));
+    assertNotCached(aggregation(relation("test", table),
+        ImmutableList.of(named("max", DSL.max(now))), ImmutableList.of()));
+    assertNotCached(aggregation(relation("test", table),
+        ImmutableList.of(named("count", DSL.count(ref("time", DATETIME))
+            .condition(DSL.less(ref("time", DATETIME), now)))),
+        ImmutableList.of()));
+  }
+
+  @Test
+  void evict_least_recently_used_plan() {
+    LogicalPlan plan = relation("test", table);
+    cache.get(AstDSL.relation("a"), 1L, analyzer(plan));
+    cache.get(AstDSL.relation("b"), 1L, analyzer(plan));
+    cache.get(AstDSL.relation("a"), 1L, analyzer(plan));
+    cache.get(AstDSL.relation("c"), 1L, analyzer(plan));
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    cache.get(AstDSL.relation("b"), 1L, analyzer(plan));
+    assertEquals(4, analyzeCount.get());
+  }
+
+  @Test
+  void clear_cache_once_metadata_version_changes() {
+    LogicalPlan plan = relation("test", table);
+    UnresolvedPlan ast = AstDSL.relation("test");
+    cache.get(ast, 1L, analyzer(plan));
+    cache.get(ast, 2L, analyzer(plan));
+
+    assertEquals(2, analyzeCount.get());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void plan_analyzed_on_stale_metadata_version_is_not_cached() {
+    LogicalPlan plan = relation("test", table);
+    cache.get(AstDSL.relation("test"), 1L, ast -> {
+      cache.get(AstDSL.relation("other"), 2L, analyzer(plan));
+      return plan;
+    });
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void clear_cache_and_plan_being_analyzed() {
+    LogicalPlan plan = relation("test", table);
+    cache.get(AstDSL.relation("a"), 1L, analyzer(plan));
+    cache.get(AstDSL.relation("b"), 1L, ast -> {
+      cache.clear();
+      return plan;
+    });
+
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    cache.get(AstDSL.relation("a"), 1L, analyzer(plan));
+    assertEquals(2, analyzeCount.get());
+  }
+
+  private void assertNotCached(LogicalPlan plan) {
+    UnresolvedPlan ast = AstDSL.relation("test");
+    cache.get(ast, 1L, analyzer(plan));
+    assertSame(plan, cache.get(ast, 1L, analyzer(plan)));
+    assertEquals(0, cache.size());
+  }
+
+  private Function<UnresolvedPlan, LogicalPlan> analyzer(LogicalPlan plan) {
+    return ast -> {
+      analyzeCount.incrementAndGet();
+      return plan;
+    };
+  }
+}
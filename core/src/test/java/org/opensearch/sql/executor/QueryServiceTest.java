@@ -8,6 +8,7 @@
 
 package org.opensearch.sql.executor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -15,8 +16,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import java.util.Collections;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +34,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.split.Split;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -109,6 +114,30 @@ class QueryServiceTest {
         .handledByOnFailure();
   }
 
+  @Test
+  public void analyzeSamePlanOnceIfPlanCacheEnabled() {
+    when(analyzer.analyze(any(), any())).thenReturn(LogicalPlanDSL.values(ImmutableList.of()));
+    queryService = new QueryService(analyzer, executionEngine, planner,
+        new LogicalPlanCache(1), () -> 1L, () -> true);
+
+    queryService.analyze(ast);
+    queryService.analyze(ast);
+    verify(analyzer, times(1)).analyze(any(), any());
+  }
+
+  @Test
+  public void analyzeEveryPlanIfPlanCacheDisabled() {
+    when(analyzer.analyze(any(), any())).thenReturn(LogicalPlanDSL.values(ImmutableList.of()));
+    LogicalPlanCache planCache = new LogicalPlanCache(1);
+    queryService = new QueryService(analyzer, executionEngine, planner,
+        planCache, () -> 1L, () -> false);
+
+    queryService.analyze(ast);
+    queryService.analyze(ast);
+    verify(analyzer, times(2)).analyze(any(), any());
+    assertEquals(0, planCache.size());
+  }
+
   Helper queryService() {
     return new Helper();
   }
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.dsl.AstDSL;
+import org.opensearch.sql.ast.statement.Query;
+import org.opensearch.sql.ast.statement.Statement;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StatementCacheTest {
+
+  private final StatementCache cache = new StatementCache(2);
+
+  private final AtomicInteger buildCount = new AtomicInteger();
+
+  private final Supplier<Statement> builder = () -> {
+    buildCount.incrementAndGet();
+    return new Query(AstDSL.relation("test"));
+  };
+
+  @Test
+  void build_statement_once_for_same_query() {
+    Statement statement = cache.get("source=test", false, builder);
+    assertSame(statement, cache.get("source=test", false, builder));
+    assertSame(statement, cache.get("  source=test\n", false, builder));
+
+    assertEquals(1, buildCount.get());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.size());
+    assertTrue(cache.getBuildTimeMillis() >= 0);
+  }
+
+  @Test
+  void build_statement_separately_for_explain() {
+    Statement statement = cache.get("source=test", false, builder);
+    assertNotSame(statement, cache.get("source=test", true, builder));
+    assertEquals(2, buildCount.get());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  void evict_least_recently_used_statement() {
+    cache.get("source=a", false, builder);
+    cache.get("source=b", false, builder);
+    cache.get("source=a", false, builder);
+    cache.get("source=c", false, builder);
+    assertEquals(2, cache.size());
+
+    cache.get("source=a", false, builder);
+    assertEquals(3, buildCount.get());
+    cache.get("source=b", false, builder);
+    assertEquals(4, buildCount.get());
+  }
+
+  @Test
+  void statement_failed_to_build_is_not_cached() {
+    assertThrows(IllegalStateException.class, () -> cache.get("source=test", false, () -> {
+      throw new IllegalStateException("syntax error");
+    }));
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.getMissCount());
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PredicateCompilerTest {
+
+  private static final List<ExprValue> BOOLEANS =
+      List.of(LITERAL_TRUE, LITERAL_FALSE, LITERAL_NULL, LITERAL_MISSING);
+
+  private static final List<ExprValue> INTEGERS =
+      List.of(integerValue(1), integerValue(2), LITERAL_NULL, LITERAL_MISSING);
+
+  @Test
+  void compile_logical_functions_as_interpreted() {
+    assertSameAsInterpreted(DSL::and, BOOLEAN, BOOLEANS);
+    assertSameAsInterpreted(DSL::or, BOOLEAN, BOOLEANS);
+    assertSameAsInterpreted(DSL::xor, BOOLEAN, BOOLEANS);
+    assertSameAsInterpreted((a, b) -> DSL.not(a), BOOLEAN, BOOLEANS);
+  }
+
+  @Test
+  void compile_comparison_functions_as_interpreted() {
+    assertSameAsInterpreted(DSL::equal, INTEGER, INTEGERS);
+    assertSameAsInterpreted(DSL::notequal, INTEGER, INTEGERS);
+    assertSameAsInterpreted(DSL::less, INTEGER, INTEGERS);
+    assertSameAsInterpreted(DSL::lte, INTEGER, INTEGERS);
+    assertSameAsInterpreted(DSL::greater, INTEGER, INTEGERS);
+    assertSameAsInterpreted(DSL::gte, INTEGER, INTEGERS);
+  }
+
+  @Test
+  void compile_nested_predicate() {
+    Expression expr = DSL.or(
+        DSL.and(
+            DSL.greater(ref("a", INTEGER), literal(1)),
+            DSL.not(DSL.equal(ref("name", STRING), literal("bob")))),
+        DSL.like(ref("name", STRING), literal("al%")));
+    CompiledPredicate predicate = PredicateCompiler.compile(expr);
+    assertEquals(CompiledPredicate.Or.class, predicate.getClass());
+
+    for (ExprValue a : INTEGERS) {
+      for (String name : List.of("bob", "alice", "john")) {
+        Environment<Expression, ExprValue> env = env(Map.of("a", a, "name", stringValue(name)));
+        assertEquals(expr.valueOf(env), predicate.valueOf(env));
+      }
+    }
+  }
+
+  @Test
+  void skip_right_operand_if_result_is_known_from_left() {
+    Expression fail = new FailingExpression();
+    Environment<Expression, ExprValue> env = env(Map.of());
+    assertFalse(PredicateCompiler.compile(DSL.and(literal(false), fail)).test(env));
+    assertTrue(PredicateCompiler.compile(DSL.or(literal(true), fail)).test(env));
+  }
+
+  @Test
+  void evaluate_other_expression_as_it_is() {
+    Expression literal = literal(10);
+    CompiledPredicate predicate = PredicateCompiler.compile(literal);
+    assertEquals(CompiledPredicate.Interpreted.class, predicate.getClass());
+    assertEquals(integerValue(10), predicate.valueOf(env(Map.of())));
+
+    Expression abs = DSL.abs(ref("a", INTEGER));
+    assertEquals(CompiledPredicate.Interpreted.class, PredicateCompiler.compile(abs).getClass());
+
+    Expression like = DSL.like(ref("name", STRING), literal("a%"));
+    predicate = PredicateCompiler.compile(like);
+    assertEquals(CompiledPredicate.Interpreted.class, predicate.getClass());
+    assertTrue(predicate.test(env(Map.of("name", stringValue("abc")))));
+  }
+
+  @Test
+  void compiled_predicate_is_same_as_original_expression() {
+    Expression expr = DSL.and(ref("a", BOOLEAN), ref("b", BOOLEAN));
+    CompiledPredicate predicate = PredicateCompiler.compile(expr);
+    assertSame(predicate, PredicateCompiler.compile(predicate));
+    assertEquals(PredicateCompiler.compile(expr), predicate);
+    assertEquals(PredicateCompiler.compile(expr).hashCode(), predicate.hashCode());
+    assertEquals(BOOLEAN, predicate.type());
+    assertEquals(expr.toString(), predicate.toString());
+    assertSame(expr, predicate.accept(new ExpressionNodeVisitor<Expression, Object>() {
+      @Override
+      public Expression visitFunction(FunctionExpression node, Object context) {
+        return node;
+      }
+    }, null));
+  }
+
+  private static void assertSameAsInterpreted(BinaryOperator<Expression> function,
+                                              ExprType type,
+                                              List<ExprValue> values) {
+    Expression expr = function.apply(ref("a", type), ref("b", type));
+    CompiledPredicate predicate = PredicateCompiler.compile(expr);
+    for (ExprValue a : values) {
+      for (ExprValue b : values) {
+        Environment<Expression, ExprValue> env = env(Map.of("a", a, "b", b));
+        ExprValue expected = expr.valueOf(env);
+        assertEquals(expected, predicate.valueOf(env), () -> expr + " on " + a + ", " + b);
+        assertEquals(LITERAL_TRUE.equals(expected), predicate.test(env));
+      }
+    }
+  }
+
+  private static Environment<Expression, ExprValue> env(Map<String, ExprValue> values) {
+    return ExprTupleValue.fromExprValueMap(values).bindingTuples();
+  }
+
+  /**
+   * Boolean expression which fails if evaluated.
+   */
+  private static class FailingExpression implements Expression {
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      throw new IllegalStateException("should not be evaluated");
+    }
+
+    @Override
+    public ExprType type() {
+      return BOOLEAN;
+    }
+
+    @Override
+    public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+      return null;
+    }
+  }
+}
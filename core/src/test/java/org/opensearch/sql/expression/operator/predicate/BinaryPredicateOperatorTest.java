@@ -772,6 +772,19 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(String.format("not like(\"%s\", \"%s\")", "bob", "bo%"), notLike.toString());
   }
 
+  @Test
+  public void test_like_non_literal_pattern() {
+    FunctionExpression like = DSL.like(DSL.literal("str"), DSL.ref("string_value", STRING));
+    assertEquals(LITERAL_TRUE, like.valueOf(valueEnv()));
+
+    FunctionExpression notLike =
+        DSL.notLike(DSL.literal("string"), DSL.ref("string_value", STRING));
+    assertEquals(LITERAL_TRUE, notLike.valueOf(valueEnv()));
+
+    FunctionExpression regexp = DSL.regexp(DSL.literal("str"), DSL.ref("string_value", STRING));
+    assertEquals(1, regexp.valueOf(valueEnv()).integerValue());
+  }
+
   @Test
   void test_regexp() {
     STRING_PATTERN_PAIRS.forEach(this::testRegexpString);
@@ -808,6 +821,20 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(LITERAL_FALSE, exprValue);
   }
 
+  @Test
+  public void likeSerializationTest() throws Exception {
+    Expression expression = DSL.like(DSL.literal("Bob"), DSL.literal("b%"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expression);
+    objectOutput.flush();
+
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    Expression e = (Expression) objectInput.readObject();
+    assertEquals(LITERAL_TRUE, e.valueOf(valueEnv()));
+  }
+
   @Test
   public void compareNumberValueWithDifferentType() {
     FunctionExpression equal = DSL.equal(DSL.literal(1), DSL.literal(1L));
@@ -75,6 +75,23 @@ class GrokExpressionTest extends ExpressionTestBase {
             .valueOf(env)));
   }
 
+  @Test
+  public void parse_all_grok_groups_by_one_match() {
+    String rawPattern = "%{WORD:verb} %{NUMBER:response}";
+    ParseExpression verb =
+        DSL.grok(DSL.ref("log_value", STRING), DSL.literal(rawPattern), DSL.literal("verb"));
+    ParseExpression response =
+        DSL.grok(DSL.ref("log_value", STRING), DSL.literal(rawPattern), DSL.literal("response"));
+    assertEquals(verb.parseKey(), response.parseKey());
+
+    Map<String, ExprValue> values = verb.parseAll(stringValue("GET 200"));
+    assertEquals(stringValue("GET"), values.get("verb"));
+    assertEquals(stringValue("200"), values.get("response"));
+    values = verb.parseAll(stringValue("not matching"));
+    assertEquals(stringValue(""), values.get("verb"));
+    assertEquals(stringValue(""), values.get("response"));
+  }
+
   @Test
   public void resolve_null_and_empty_values() {
     assertEquals(stringValue(""),
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ParseMemoTest {
+
+  private static final String PATTERN = "(?<action>\\w+) (?<response>\\d+)";
+
+  private final ParseMemo memo = new ParseMemo();
+
+  private final AtomicInteger parseCount = new AtomicInteger();
+
+  @Test
+  void parse_source_of_row_once_for_all_derived_fields() {
+    BindingTuple row = row("GET 200");
+    assertEquals(stringValue("GET"), regex("action").valueOf(memo.of(row)));
+    assertEquals(stringValue("200"), regex("response").valueOf(memo.of(row)));
+    assertEquals(stringValue("GET"), regex("action").valueOf(memo.of(row)));
+    assertEquals(1, parseCount.get());
+
+    assertEquals(stringValue("POST"), regex("action").valueOf(memo.of(row("POST 404"))));
+    assertEquals(2, parseCount.get());
+  }
+
+  @Test
+  void parse_again_if_source_is_replaced_on_row() {
+    BindingTuple row = row("GET 200");
+    assertEquals(stringValue("200"), regex("response").valueOf(memo.of(row)));
+    assertEquals(stringValue("404"), regex("response").valueOf(memo.of(
+        Environment.extendEnv(row, DSL.ref("log", STRING), stringValue("POST 404")))));
+    assertEquals(2, parseCount.get());
+  }
+
+  @Test
+  void return_null_without_parsing_null_source() {
+    assertEquals(ExprValueUtils.nullValue(), regex("action").valueOf(memo.of(
+        ExprValueUtils.tupleValue(ImmutableMap.of()).bindingTuples())));
+    assertEquals(0, parseCount.get());
+  }
+
+  private BindingTuple row(String log) {
+    return ExprValueUtils.tupleValue(ImmutableMap.of("log", log)).bindingTuples();
+  }
+
+  private ParseExpression regex(String identifier) {
+    return new RegexExpression(DSL.ref("log", STRING), DSL.literal(PATTERN),
+        DSL.literal(identifier)) {
+      @Override
+      Map<String, ExprValue> parseAllValues(ExprValue value)
+          throws ExpressionEvaluationException {
+        parseCount.incrementAndGet();
+        return super.parseAllValues(value);
+      }
+    };
+  }
+}
@@ -7,6 +7,7 @@
 package org.opensearch.sql.expression.parse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.config.TestConfig.STRING_TYPE_MISSING_VALUE_FIELD;
@@ -16,6 +17,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -48,6 +50,17 @@ class PatternsExpressionTest extends ExpressionTestBase {
             DSL.literal("regex_field")).valueOf(env));
   }
 
+  @Test
+  public void parse_all_by_identifier() {
+    PatternsExpression punct = DSL.patterns(DSL.ref("log_value", STRING), DSL.literal(""),
+        DSL.literal("punct_field"));
+    PatternsExpression other = DSL.patterns(DSL.ref("log_value", STRING), DSL.literal(""),
+        DSL.literal("other_field"));
+    assertNotEquals(punct.parseKey(), other.parseKey());
+    assertEquals(ImmutableMap.of("punct_field", stringValue("-")),
+        punct.parseAll(stringValue("a-1")));
+  }
+
   @Test
   public void resolve_null_and_missing_values() {
     assertEquals(LITERAL_NULL,
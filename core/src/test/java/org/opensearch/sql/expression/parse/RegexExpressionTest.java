@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
@@ -62,6 +63,30 @@ class RegexExpressionTest extends ExpressionTestBase {
             .valueOf(env)));
   }
 
+  @Test
+  public void parse_all_regex_groups_by_one_match() {
+    String rawPattern = "(?<action>\\w+) (?<response>\\d+)";
+    ParseExpression action =
+        DSL.regex(DSL.ref("log_value", STRING), DSL.literal(rawPattern), DSL.literal("action"));
+    ParseExpression response =
+        DSL.regex(DSL.ref("log_value", STRING), DSL.literal(rawPattern), DSL.literal("response"));
+    assertEquals(action.parseKey(), response.parseKey());
+
+    assertEquals(ImmutableMap.of("action", stringValue("GET"), "response", stringValue("200")),
+        action.parseAll(stringValue("GET 200")));
+    assertEquals(ImmutableMap.of("action", stringValue(""), "response", stringValue("")),
+        action.parseAll(stringValue("not matching")));
+  }
+
+  @Test
+  public void throws_semantic_exception_if_parsed_value_type_is_not_string() {
+    assertThrows(
+        SemanticCheckException.class,
+        () -> DSL.regex(DSL.ref("boolean_value", BOOLEAN), DSL.literal("(?<group>\\w{2})\\w"),
+                DSL.literal("group"))
+            .parseAll(ExprBooleanValue.of(true)));
+  }
+
   @Test
   public void resolve_not_parsable_inputs_as_empty_string() {
     assertEquals(stringValue(""),
@@ -95,4 +95,23 @@ class CurrentRowWindowFrameTest {
     assertEquals(row2, windowFrame.current());
   }
 
+  @Test
+  void can_return_previous_and_current_sort_key() {
+    PeekingIterator<ExprValue> iterator = Iterators.peekingIterator(Iterators.forArray(
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+            "state", new ExprStringValue("WA"),
+            "age", new ExprIntegerValue(20))),
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+            "state", new ExprStringValue("WA"),
+            "age", new ExprIntegerValue(30)))));
+
+    windowFrame.load(iterator);
+    assertNull(windowFrame.previousSortKey());
+    assertEquals(ImmutableList.of(new ExprIntegerValue(20)), windowFrame.currentSortKey());
+
+    windowFrame.load(iterator);
+    assertEquals(ImmutableList.of(new ExprIntegerValue(20)), windowFrame.previousSortKey());
+    assertEquals(ImmutableList.of(new ExprIntegerValue(30)), windowFrame.currentSortKey());
+  }
+
 }
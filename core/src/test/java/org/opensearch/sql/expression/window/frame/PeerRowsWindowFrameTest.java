@@ -9,6 +9,10 @@ package org.opensearch.sql.expression.window.frame;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -28,6 +32,7 @@ import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -48,6 +53,26 @@ class PeerRowsWindowFrameTest {
     assertEquals(ImmutableList.of(tuple("WA", 10, 100)), windowFrame.next());
   }
 
+  @Test
+  void resolve_partition_and_sort_key_once_per_row() {
+    Expression state = spy(DSL.ref("state", STRING));
+    Expression age = spy(DSL.ref("age", INTEGER));
+    PeerRowsWindowFrame windowFrame = new PeerRowsWindowFrame(
+        new WindowDefinition(ImmutableList.of(state), ImmutableList.of(Pair.of(DEFAULT_ASC, age))));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10, 100),
+            tuple("WA", 20, 200),
+            tuple("CA", 5, 50)));
+
+    for (int i = 0; i < 3; i++) {
+      windowFrame.load(tuples);
+      windowFrame.next();
+    }
+    verify(state, times(3)).valueOf(any());
+    verify(age, times(3)).valueOf(any());
+  }
+
   @Test
   void test_single_partition_with_no_more_rows_after_peers() {
     PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
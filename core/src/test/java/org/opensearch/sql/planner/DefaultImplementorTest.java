@@ -156,6 +156,30 @@ class DefaultImplementorTest {
         actual);
   }
 
+  @Test
+  public void visitLimitOnSortShouldReturnTakeOrderedOperator() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name1", STRING));
+    Integer limit = 10;
+    Integer offset = 5;
+
+    LogicalPlan plan =
+        limit(
+            sort(
+                values(emptyList()),
+                sortField),
+            limit,
+            offset);
+
+    assertEquals(
+        PhysicalPlanDSL.takeOrdered(
+            PhysicalPlanDSL.values(emptyList()),
+            limit,
+            offset,
+            sortField),
+        plan.accept(implementor, null));
+  }
+
   @Test
   public void visitRelationShouldThrowException() {
     assertThrows(UnsupportedOperationException.class,
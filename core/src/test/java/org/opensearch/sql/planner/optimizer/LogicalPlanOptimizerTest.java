@@ -22,6 +22,7 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.window;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.write;
 
 import com.google.common.collect.ImmutableList;
@@ -38,6 +39,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
@@ -135,6 +138,180 @@ class LogicalPlanOptimizerTest {
     );
   }
 
+  /**
+   * Sort - Window - Sort --> Window - Sort.
+   */
+  @Test
+  void eliminate_sort_over_window_sorted_by_same_items() {
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)),
+        ImmutableList.of(Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))));
+    Pair<Sort.SortOption, Expression>[] sortItems =
+        definition.getAllSortItems().toArray(new Pair[0]);
+
+    assertEquals(
+        window(
+            window(
+                sort(tableScanBuilder, sortItems),
+                DSL.named("row_number", DSL.rowNumber()),
+                definition),
+            DSL.named("rank", DSL.rank()),
+            definition),
+        optimize(
+            window(
+                sort(
+                    window(
+                        sort(relation("schema", table), sortItems),
+                        DSL.named("row_number", DSL.rowNumber()),
+                        definition),
+                    sortItems),
+                DSL.named("rank", DSL.rank()),
+                definition)
+        )
+    );
+  }
+
+  /**
+   * Sort - Window - Sort --> Window - Sort if the sort items are prefix of the sorted items.
+   */
+  @Test
+  void eliminate_sort_over_window_sorted_by_more_items() {
+    WindowDefinition partitionOnly = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)), ImmutableList.of());
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)),
+        ImmutableList.of(Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))));
+    Pair<Sort.SortOption, Expression>[] sortItems =
+        definition.getAllSortItems().toArray(new Pair[0]);
+
+    assertEquals(
+        window(
+            window(
+                sort(tableScanBuilder, sortItems),
+                DSL.named("row_number", DSL.rowNumber()),
+                definition),
+            DSL.named("rank", DSL.rank()),
+            partitionOnly),
+        optimize(
+            window(
+                sort(
+                    window(
+                        sort(relation("schema", table), sortItems),
+                        DSL.named("row_number", DSL.rowNumber()),
+                        definition),
+                    partitionOnly.getAllSortItems().toArray(new Pair[0])),
+                DSL.named("rank", DSL.rank()),
+                partitionOnly)
+        )
+    );
+  }
+
+  @Test
+  void sort_over_window_sorted_by_different_items_should_be_kept() {
+    Pair<Sort.SortOption, Expression> sortByInt =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER));
+    Pair<Sort.SortOption, Expression> sortByLong =
+        Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("longV", LONG));
+    WindowDefinition windowByInt =
+        new WindowDefinition(ImmutableList.of(), ImmutableList.of(sortByInt));
+    WindowDefinition windowByLong =
+        new WindowDefinition(ImmutableList.of(), ImmutableList.of(sortByLong));
+
+    LogicalPlan plan =
+        window(
+            sort(
+                window(
+                    sort(relation("schema", table), sortByInt),
+                    DSL.named("row_number", DSL.rowNumber()),
+                    windowByInt),
+                sortByLong),
+            DSL.named("rank", DSL.rank()),
+            windowByLong);
+
+    assertEquals(
+        window(
+            sort(
+                window(
+                    sort(tableScanBuilder, sortByInt),
+                    DSL.named("row_number", DSL.rowNumber()),
+                    windowByInt),
+                sortByLong),
+            DSL.named("rank", DSL.rank()),
+            windowByLong),
+        optimize(plan)
+    );
+  }
+
+  @Test
+  void sort_over_window_sorted_by_less_items_should_be_kept() {
+    WindowDefinition partitionOnly = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)), ImmutableList.of());
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)),
+        ImmutableList.of(Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))));
+    Pair<Sort.SortOption, Expression>[] partitionItems =
+        partitionOnly.getAllSortItems().toArray(new Pair[0]);
+    Pair<Sort.SortOption, Expression>[] sortItems =
+        definition.getAllSortItems().toArray(new Pair[0]);
+
+    assertEquals(
+        window(
+            sort(
+                window(
+                    sort(tableScanBuilder, partitionItems),
+                    DSL.named("rank", DSL.rank()),
+                    partitionOnly),
+                sortItems),
+            DSL.named("row_number", DSL.rowNumber()),
+            definition),
+        optimize(
+            window(
+                sort(
+                    window(
+                        sort(relation("schema", table), partitionItems),
+                        DSL.named("rank", DSL.rank()),
+                        partitionOnly),
+                    sortItems),
+                DSL.named("row_number", DSL.rowNumber()),
+                definition)
+        )
+    );
+  }
+
+  /**
+   * Sort - Window - Sort - Relation --> Window - TableScanBuilder if sort pushed down.
+   */
+  @Test
+  void window_on_sort_pushed_down_should_have_no_sort_left() {
+    when(tableScanBuilder.pushDownSort(any())).thenReturn(true);
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)),
+        ImmutableList.of(Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))));
+    Pair<Sort.SortOption, Expression>[] sortItems =
+        definition.getAllSortItems().toArray(new Pair[0]);
+
+    assertEquals(
+        window(
+            window(
+                tableScanBuilder,
+                DSL.named("row_number", DSL.rowNumber()),
+                definition),
+            DSL.named("rank", DSL.rank()),
+            definition),
+        optimize(
+            window(
+                sort(
+                    window(
+                        sort(relation("schema", table), sortItems),
+                        DSL.named("row_number", DSL.rowNumber()),
+                        definition),
+                    sortItems),
+                DSL.named("rank", DSL.rank()),
+                definition)
+        )
+    );
+  }
+
   @Test
   void default_table_scan_builder_should_not_push_down_anything() {
     LogicalPlan[] plans = {
@@ -7,9 +7,11 @@
 package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -20,11 +22,19 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
 import org.opensearch.sql.data.model.ExprStringValue;
@@ -33,6 +43,10 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
 
@@ -586,6 +600,159 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
             "sum", 8))));
   }
 
+  @Test
+  public void group_by_integer_field_with_null_value() {
+    PhysicalPlan plan = new AggregationOperator(testScan(nullableInputs()),
+        Collections.singletonList(DSL.named("count", DSL.count(DSL.ref("code", INTEGER)))),
+        Collections.singletonList(DSL.named("code", DSL.ref("code", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(3, result.size());
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(nullableMap("code", null, "count", 0)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("code", 200, "count", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("code", 404, "count", 1))));
+  }
+
+  @Test
+  public void group_by_string_field_with_null_value() {
+    PhysicalPlan plan = new AggregationOperator(testScan(nullableInputs()),
+        Collections.singletonList(DSL.named("count", DSL.count(DSL.ref("action", STRING)))),
+        Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(3, result.size());
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(nullableMap("action", null, "count", 0)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "count", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "count", 1))));
+  }
+
+  @Test
+  public void group_by_two_fields_sorted_by_both_keys() {
+    PhysicalPlan plan = new AggregationOperator(testScan(nullableInputs()),
+        Collections.singletonList(DSL.named("count", DSL.count(DSL.literal(1)))),
+        Arrays.asList(DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("code", DSL.ref("code", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(4, result.size());
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(nullableMap("action", null, "code", 200, "count", 1)),
+        ExprValueUtils.tupleValue(nullableMap("action", "GET", "code", null, "count", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "code", 200, "count", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "code", 404, "count", 1))));
+  }
+
+  @Test
+  public void group_by_integer_field_with_many_groups() {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    for (int i = 999; i >= 0; i--) {
+      builder.add(ExprValueUtils.tupleValue(ImmutableMap.of("id", i % 100)));
+    }
+    PhysicalPlan plan = new AggregationOperator(testScan(builder.build()),
+        Collections.singletonList(DSL.named("count", DSL.count(DSL.ref("id", INTEGER)))),
+        Collections.singletonList(DSL.named("id", DSL.ref("id", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(100, result.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(ExprValueUtils.tupleValue(ImmutableMap.of("id", i, "count", 10)),
+          result.get(i));
+    }
+  }
+
+  @Test
+  public void aggregate_with_spill(@TempDir Path directory) throws IOException {
+    List<NamedAggregator> aggregators = Arrays.asList(
+        DSL.named("count", DSL.count(DSL.ref("id", INTEGER))),
+        DSL.named("sum", DSL.sum(DSL.ref("value", INTEGER))));
+    List<NamedExpression> groups = Collections.singletonList(
+        DSL.named("id", DSL.ref("id", INTEGER)));
+    List<ExprValue> expected =
+        execute(new AggregationOperator(testScan(highCardinalityInputs()), aggregators, groups));
+    assertEquals(301, expected.size());
+
+    // spill twice, spill once and no spill
+    for (int threshold : new int[] {4, 100, 500}) {
+      SpillConfig spillConfig =
+          new SpillConfig(directory, threshold, mock(ResourceMonitor.class));
+      assertEquals(expected, execute(new AggregationOperator(
+          testScan(highCardinalityInputs()), aggregators, groups, spillConfig)));
+      assertSpillFilesDeleted(directory);
+    }
+  }
+
+  @Test
+  public void aggregate_two_groups_with_spill(@TempDir Path directory) throws IOException {
+    List<NamedAggregator> aggregators = Collections.singletonList(
+        DSL.named("avg", DSL.avg(DSL.ref("value", INTEGER))));
+    List<NamedExpression> groups = Arrays.asList(
+        DSL.named("name", DSL.ref("name", STRING)),
+        DSL.named("id", DSL.ref("id", INTEGER)));
+    List<ExprValue> expected =
+        execute(new AggregationOperator(testScan(highCardinalityInputs()), aggregators, groups));
+
+    SpillConfig spillConfig = new SpillConfig(directory, 4, mock(ResourceMonitor.class));
+    assertEquals(expected, execute(new AggregationOperator(
+        testScan(highCardinalityInputs()), aggregators, groups, spillConfig)));
+    assertSpillFilesDeleted(directory);
+  }
+
+  @Test
+  public void aggregate_string_group_with_spill(@TempDir Path directory) throws IOException {
+    List<NamedAggregator> aggregators = Collections.singletonList(
+        DSL.named("max", DSL.max(DSL.ref("value", INTEGER))));
+    List<NamedExpression> groups = Collections.singletonList(
+        DSL.named("key", DSL.ref("key", STRING)));
+    List<ExprValue> expected =
+        execute(new AggregationOperator(testScan(highCardinalityInputs()), aggregators, groups));
+
+    SpillConfig spillConfig = new SpillConfig(directory, 4, mock(ResourceMonitor.class));
+    assertEquals(expected, execute(new AggregationOperator(
+        testScan(highCardinalityInputs()), aggregators, groups, spillConfig)));
+    assertSpillFilesDeleted(directory);
+  }
+
+  @Test
+  public void aggregate_without_groups_with_spill_config(@TempDir Path directory) {
+    SpillConfig spillConfig = new SpillConfig(directory, 1, mock(ResourceMonitor.class));
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", DSL.sum(DSL.ref("response", INTEGER)))),
+        Collections.emptyList(), spillConfig);
+    assertThat(execute(plan), contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("sum(response)", 1504d))));
+  }
+
+  private static List<ExprValue> highCardinalityInputs() {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    for (int i = 0; i < 1000; i++) {
+      builder.add(ExprValueUtils.tupleValue(nullableMap(
+          "id", (i >= 990) ? null : i % 300, "name", "name" + (i % 3),
+          "key", "key" + (i % 300), "value", i)));
+    }
+    return builder.build();
+  }
+
+  private static void assertSpillFilesDeleted(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  private static List<ExprValue> nullableInputs() {
+    return Arrays.asList(
+        ExprValueUtils.tupleValue(nullableMap("action", "GET", "code", 200)),
+        ExprValueUtils.tupleValue(nullableMap("action", "POST", "code", 404)),
+        ExprValueUtils.tupleValue(nullableMap("action", "GET", "code", null)),
+        ExprValueUtils.tupleValue(nullableMap("action", null, "code", 200)));
+  }
+
+  private static Map<String, Object> nullableMap(Object... keyValues) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      map.put((String) keyValues[i], keyValues[i + 1]);
+    }
+    return map;
+  }
+
   @Test
   public void copyOfAggregationOperatorShouldSame() {
     AggregationOperator plan = new AggregationOperator(testScan(datetimeInputs),
@@ -10,7 +10,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -53,6 +55,29 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
                     ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)))));
   }
 
+  @Test
+  public void create_new_field_that_contain_the_result_of_a_predicate() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)));
+
+    PhysicalPlan plan =
+        eval(
+            inputPlan,
+            ImmutablePair.of(
+                DSL.ref("fast", BOOLEAN),
+                DSL.and(
+                    DSL.greater(DSL.ref("distance", INTEGER), DSL.literal(50)),
+                    DSL.less(DSL.ref("time", INTEGER), DSL.literal(20)))));
+    assertThat(
+        execute(plan),
+        allOf(
+            iterableWithSize(1),
+            hasItems(
+                ExprValueUtils.tupleValue(
+                    ImmutableMap.of("distance", 100, "time", 10, "fast", true)))));
+  }
+
   @Test
   public void create_multiple_field_using_field_defined_in_input_tuple() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -132,4 +157,16 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void eval_by_batch() {
+    PhysicalPlan plan = eval(testScan(inputs),
+        ImmutablePair.of(DSL.ref("response", INTEGER),
+            DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))));
+    List<ExprValue> expected = execute(plan);
+
+    assertEquals(expected, executeByBatch(eval(testScan(inputs),
+        ImmutablePair.of(DSL.ref("response", INTEGER),
+            DSL.add(DSL.ref("response", INTEGER), DSL.literal(1)))), 2));
+  }
 }
@@ -43,6 +43,15 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
                 "www.amazon.com"))));
   }
 
+  @Test
+  public void filterByBatch() {
+    FilterOperator plan = new FilterOperator(new TestScan(),
+        DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404)));
+    List<ExprValue> expected = execute(plan);
+    assertEquals(expected, executeByBatch(new FilterOperator(new TestScan(),
+        DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404))), 1));
+  }
+
   @Test
   public void nullValueShouldBeenIgnored() {
     LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
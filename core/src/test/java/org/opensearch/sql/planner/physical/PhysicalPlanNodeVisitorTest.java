@@ -132,6 +132,11 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
     PhysicalPlan limit = PhysicalPlanDSL.limit(plan, 1, 1);
     assertNull(limit.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
     }, null));
+
+    PhysicalPlan takeOrdered =
+        PhysicalPlanDSL.takeOrdered(plan, 1, 1, Pair.of(SortOption.DEFAULT_ASC, ref));
+    assertNull(takeOrdered.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
+    }, null));
   }
 
   @Test
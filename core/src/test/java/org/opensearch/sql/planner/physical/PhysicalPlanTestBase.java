@@ -206,6 +206,17 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  protected List<ExprValue> executeByBatch(PhysicalPlan plan, int batchSize) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    plan.open();
+    for (List<ExprValue> batch = plan.nextBatch(batchSize); !batch.isEmpty();
+         batch = plan.nextBatch(batchSize)) {
+      builder.addAll(batch);
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static PhysicalPlan testScan(List<ExprValue> inputs) {
     return new TestScan(inputs);
   }
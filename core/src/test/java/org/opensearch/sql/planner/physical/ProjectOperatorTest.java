@@ -11,8 +11,11 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -20,6 +23,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -92,6 +96,19 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
                     "action", stringValue("POST"))))));
   }
 
+  @Test
+  public void project_duplicate_field_name_throws_exception() {
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)));
+    PhysicalPlan plan = project(inputPlan,
+        DSL.named("response", DSL.ref("response", INTEGER)),
+        DSL.named("response", DSL.ref("response", INTEGER)));
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, plan::next);
+    assertEquals("Multiple entries with same key: response=200 and response=200",
+        exception.getMessage());
+  }
+
   @Test
   public void project_schema() {
     PhysicalPlan project = project(inputPlan,
@@ -130,6 +147,26 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
                 ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", "200")))));
   }
 
+  @Test
+  public void project_parse_null_source_as_null() {
+    LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
+    value.put("response", LITERAL_NULL);
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next()).thenReturn(new ExprTupleValue(value));
+    PhysicalPlan plan =
+        project(inputPlan, ImmutableList.of(DSL.named("action", DSL.ref("action", STRING))),
+            ImmutableList.of(DSL.named("action",
+                DSL.regex(DSL.ref("response", STRING),
+                    DSL.literal("(?<action>\\w+) (?<response>\\d+)"),
+                    DSL.literal("action"))))
+        );
+    List<ExprValue> result = execute(plan);
+
+    LinkedHashMap<String, ExprValue> expected = new LinkedHashMap<>();
+    expected.put("action", LITERAL_NULL);
+    assertThat(result, contains(new ExprTupleValue(expected)));
+  }
+
   @Test
   public void project_fields_with_unused_parse_expressions() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -206,4 +243,17 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
                 ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", "200")),
                 ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST")))));
   }
+
+  @Test
+  public void project_by_batch() {
+    PhysicalPlan plan = project(testScan(inputs),
+        DSL.named("response", DSL.ref("response", INTEGER)),
+        DSL.named("action", DSL.ref("action", STRING)));
+    List<ExprValue> expected = execute(plan);
+
+    assertThat(executeByBatch(project(testScan(inputs),
+        DSL.named("response", DSL.ref("response", INTEGER)),
+        DSL.named("action", DSL.ref("action", STRING))), 2),
+        contains(expected.toArray()));
+  }
 }
@@ -9,6 +9,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -59,4 +60,16 @@ public class RenameOperatorTest extends PhysicalPlanTestBase {
     assertEquals(1, result.size());
     assertThat(result, containsInAnyOrder(ExprValueUtils.integerValue(1)));
   }
+
+  @Test
+  public void rename_to_existing_field_throws_exception() {
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)));
+    PhysicalPlan plan = new RenameOperator(
+        inputPlan,
+        ImmutableMap.of(DSL.ref("action", STRING), DSL.ref("response", STRING))
+    );
+
+    assertThrows(IllegalArgumentException.class, plan::next);
+  }
 }
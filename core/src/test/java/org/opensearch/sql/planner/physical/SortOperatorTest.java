@@ -9,27 +9,54 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
 
 @ExtendWith(MockitoExtension.class)
 class SortOperatorTest extends PhysicalPlanTestBase {
   @Mock
   private PhysicalPlan inputPlan;
 
+  @Mock
+  private ResourceMonitor resourceMonitor;
+
   /**
    * construct the map which contain null value, because {@link ImmutableMap} doesn't support null
    * value.
@@ -42,6 +69,8 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         }
       };
 
+  private static final Map<String, Object> NULL_PRICE_MAP = Collections.singletonMap("price", null);
+
   @Test
   public void sort_one_field_asc() {
     when(inputPlan.hasNext()).thenReturn(true, true, true, false);
@@ -258,6 +287,244 @@ class SortOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("size", 320, "response", 200))));
   }
 
+  @Test
+  public void sort_with_spill_when_exceed_max_rows_in_memory(@TempDir Path directory)
+      throws IOException {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 299, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 199, "response", 200)));
+
+    SpillConfig spillConfig = new SpillConfig(directory, 2, resourceMonitor);
+    assertThat(
+        execute(new SortOperator(inputPlan,
+            Arrays.asList(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+            spillConfig)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 199, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 299, "response", 503))));
+    assertSpillFilesDeleted(directory);
+  }
+
+  @Test
+  public void sort_with_spill_when_resource_is_not_healthy(@TempDir Path directory)
+      throws IOException {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 21000; i++) {
+      rows.add(tupleValue(ImmutableMap.of("id", (i * 7919) % 21000)));
+    }
+    when(resourceMonitor.isHealthy()).thenReturn(false, true);
+
+    SpillConfig spillConfig = new SpillConfig(directory, Integer.MAX_VALUE, resourceMonitor);
+    List<ExprValue> result = execute(new SortOperator(testScan(rows),
+        Arrays.asList(Pair.of(SortOption.DEFAULT_DESC, ref("id", INTEGER))),
+        spillConfig));
+
+    assertEquals(21000, result.size());
+    for (int i = 0; i < 21000; i++) {
+      assertEquals(tupleValue(ImmutableMap.of("id", 20999 - i)), result.get(i));
+    }
+    verify(resourceMonitor, times(2)).isHealthy();
+    assertSpillFilesDeleted(directory);
+  }
+
+  @Test
+  public void sort_with_spill_merges_runs_in_passes(@TempDir Path directory) throws IOException {
+    // one run per row except the last row kept in memory, merged into three runs by one pass
+    int size = SpillConfig.MAX_MERGE_FAN_IN * 2 + 2;
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      rows.add(tupleValue(ImmutableMap.of("id", i % 3, "seq", i)));
+    }
+
+    SpillConfig spillConfig = new SpillConfig(directory, 1, resourceMonitor);
+    SortOperator sort = new SortOperator(testScan(rows),
+        Arrays.asList(Pair.of(SortOption.DEFAULT_ASC, ref("id", INTEGER))), spillConfig);
+    sort.open();
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(3, files.count());
+    }
+
+    List<ExprValue> result = new ArrayList<>();
+    sort.forEachRemaining(result::add);
+    sort.close();
+    assertEquals(size, result.size());
+    for (int i = 1; i < size; i++) {
+      ExprValue previous = result.get(i - 1);
+      ExprValue current = result.get(i);
+      int compared = Integer.compare(
+          previous.tupleValue().get("id").integerValue(),
+          current.tupleValue().get("id").integerValue());
+      assertTrue(compared < 0 || (compared == 0
+          && previous.tupleValue().get("seq").integerValue()
+          < current.tupleValue().get("seq").integerValue()));
+    }
+    assertSpillFilesDeleted(directory);
+  }
+
+  @Test
+  public void sort_with_spill_config_in_memory(@TempDir Path directory) throws IOException {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    SpillConfig spillConfig = new SpillConfig(directory, 10, resourceMonitor);
+    assertThat(
+        execute(new SortOperator(inputPlan,
+            Arrays.asList(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+            spillConfig)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+    assertSpillFilesDeleted(directory);
+  }
+
+  @Test
+  public void sort_null_keys_with_spill_in_input_order(@TempDir Path directory)
+      throws IOException {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      rows.add(tupleValue(i % 4 == 1
+          ? ImmutableMap.<String, Object>of("response", 200, "seq", i)
+          : ImmutableMap.<String, Object>of("response", LITERAL_NULL, "seq", i)));
+    }
+
+    SpillConfig spillConfig = new SpillConfig(directory, 2, resourceMonitor);
+    List<ExprValue> result = execute(new SortOperator(testScan(rows),
+        Arrays.asList(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+        spillConfig));
+
+    List<Integer> seqs = new ArrayList<>();
+    result.forEach(row -> seqs.add(row.tupleValue().get("seq").integerValue()));
+    assertEquals(Arrays.asList(0, 2, 3, 4, 6, 7, 1, 5), seqs);
+    assertSpillFilesDeleted(directory);
+  }
+
+  private void assertSpillFilesDeleted(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  public void sort_double_field_by_normalized_key() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("price", 1.5D)))
+        .thenReturn(tupleValue(ImmutableMap.of("price", -2.5D)))
+        .thenReturn(tupleValue(NULL_PRICE_MAP))
+        .thenReturn(tupleValue(ImmutableMap.of("price", -0.5D)))
+        .thenReturn(tupleValue(ImmutableMap.of("price", 0D)));
+
+    assertThat(
+        execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_DESC, ref("price", DOUBLE)))),
+        contains(
+            tupleValue(ImmutableMap.of("price", 1.5D)),
+            tupleValue(ImmutableMap.of("price", 0D)),
+            tupleValue(ImmutableMap.of("price", -0.5D)),
+            tupleValue(ImmutableMap.of("price", -2.5D)),
+            tupleValue(NULL_PRICE_MAP)));
+  }
+
+  @Test
+  public void sort_double_field_with_value_of_mismatched_type() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("price", 3.5D)))
+        .thenReturn(tupleValue(ImmutableMap.of("price", 2)))
+        .thenReturn(tupleValue(ImmutableMap.of("price", 1.5D)));
+
+    assertThat(
+        execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("price", DOUBLE)))),
+        contains(
+            tupleValue(ImmutableMap.of("price", 1.5D)),
+            tupleValue(ImmutableMap.of("price", 2)),
+            tupleValue(ImmutableMap.of("price", 3.5D))));
+  }
+
+  @Test
+  public void sort_timestamp_field_in_same_second() {
+    Instant base = Instant.parse("2020-08-17T19:06:00Z");
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("ts", base.plusNanos(2))))
+        .thenReturn(tupleValue(ImmutableMap.of("ts", base.minusSeconds(1))))
+        .thenReturn(tupleValue(ImmutableMap.of("ts", base.plusNanos(1))));
+
+    assertThat(
+        execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("ts", TIMESTAMP)))),
+        contains(
+            tupleValue(ImmutableMap.of("ts", base.minusSeconds(1))),
+            tupleValue(ImmutableMap.of("ts", base.plusNanos(1))),
+            tupleValue(ImmutableMap.of("ts", base.plusNanos(2)))));
+  }
+
+  @Test
+  public void sort_string_field_without_normalized_key() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("name", "b")))
+        .thenReturn(tupleValue(ImmutableMap.of("name", "c")))
+        .thenReturn(tupleValue(ImmutableMap.of("name", "a")));
+
+    assertThat(
+        execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("name", STRING)))),
+        contains(
+            tupleValue(ImmutableMap.of("name", "a")),
+            tupleValue(ImmutableMap.of("name", "b")),
+            tupleValue(ImmutableMap.of("name", "c"))));
+  }
+
+  @Test
+  public void sort_by_more_fields_than_normalized_keys() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 200)));
+
+    List<Pair<SortOption, Expression>> sortList = new ArrayList<>();
+    for (int i = 0; i < Long.SIZE; i++) {
+      sortList.add(Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)));
+    }
+    sortList.add(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)));
+
+    assertThat(
+        execute(new SortOperator(inputPlan, sortList)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void sort_key_is_evaluated_once_per_row() {
+    Expression expression = mock(Expression.class);
+    when(expression.type()).thenReturn(INTEGER);
+    when(expression.valueOf(any()))
+        .thenReturn(integerValue(3), integerValue(1), integerValue(2), integerValue(4));
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("id", 3)))
+        .thenReturn(tupleValue(ImmutableMap.of("id", 1)))
+        .thenReturn(tupleValue(ImmutableMap.of("id", 2)))
+        .thenReturn(tupleValue(ImmutableMap.of("id", 4)));
+
+    assertThat(
+        execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, expression))),
+        contains(
+            tupleValue(ImmutableMap.of("id", 1)),
+            tupleValue(ImmutableMap.of("id", 2)),
+            tupleValue(ImmutableMap.of("id", 3)),
+            tupleValue(ImmutableMap.of("id", 4))));
+    verify(expression, times(4)).valueOf(any());
+  }
+
   @Test
   public void sort_one_field_without_input() {
     when(inputPlan.hasNext()).thenReturn(false);
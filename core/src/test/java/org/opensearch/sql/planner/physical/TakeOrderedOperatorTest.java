@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.takeOrdered;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+
+@ExtendWith(MockitoExtension.class)
+class TakeOrderedOperatorTest extends PhysicalPlanTestBase {
+  @Mock
+  private PhysicalPlan inputPlan;
+
+  private static final Map<String, Object> NULL_MAP =
+      new HashMap<String, Object>() {
+        {
+          put("size", 399);
+          put("response", null);
+        }
+      };
+
+  @Test
+  public void take_ordered_one_field_asc() {
+    mockInput();
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 2, 0,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+  }
+
+  @Test
+  public void take_ordered_one_field_desc() {
+    mockInput();
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 2, 0,
+            Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void take_ordered_with_offset() {
+    mockInput();
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 2, 1,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void take_ordered_limit_exceeds_row_number() {
+    mockInput();
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 10, 2,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503))));
+  }
+
+  @Test
+  public void take_ordered_offset_exceeds_row_number() {
+    mockInput();
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 1, 6,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void take_ordered_zero_limit() {
+    mockInput();
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 0, 0,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void take_ordered_two_fields() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)));
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 3, 0,
+            Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)),
+            Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 200))));
+  }
+
+  @Test
+  public void buffered_rows_stay_bounded_as_input_grows() {
+    for (int inputSize : new int[] {1_000, 100_000}) {
+      RowGenerator input = new RowGenerator(inputSize);
+      TakeOrderedOperator plan = takeOrdered(input, 10, 5,
+          Pair.of(SortOption.DEFAULT_DESC, ref("id", INTEGER)));
+      input.monitor(plan);
+
+      List<ExprValue> result = execute(plan);
+
+      assertEquals(15, input.maxBufferedRows);
+      assertEquals(10, result.size());
+      assertEquals(tupleValue(ImmutableMap.of("id", inputSize - 6)), result.get(0));
+      assertEquals(tupleValue(ImmutableMap.of("id", inputSize - 15)), result.get(9));
+    }
+  }
+
+  @Test
+  public void buffered_rows_never_exceed_input() {
+    RowGenerator input = new RowGenerator(3);
+    TakeOrderedOperator plan = takeOrdered(input, 10, 5,
+        Pair.of(SortOption.DEFAULT_ASC, ref("id", INTEGER)));
+    input.monitor(plan);
+
+    assertTrue(execute(plan).isEmpty());
+    assertEquals(3, input.maxBufferedRows);
+  }
+
+  private void mockInput() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+  }
+
+  /**
+   * Input which generates rows lazily and records how many rows the monitored operator buffers.
+   */
+  private static class RowGenerator extends PhysicalPlan {
+    private final int size;
+    private int current = 0;
+    private TakeOrderedOperator monitored;
+    private int maxBufferedRows = 0;
+
+    RowGenerator(int size) {
+      this.size = size;
+    }
+
+    void monitor(TakeOrderedOperator operator) {
+      this.monitored = operator;
+    }
+
+    @Override
+    public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+      return null;
+    }
+
+    @Override
+    public List<PhysicalPlan> getChild() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean hasNext() {
+      maxBufferedRows = Math.max(maxBufferedRows, monitored.bufferedRows());
+      return current < size;
+    }
+
+    @Override
+    public ExprValue next() {
+      return tupleValue(ImmutableMap.of("id", current++));
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class LongHashTableTest {
+
+  @Test
+  void get_absent_key() {
+    LongHashTable<String> table = new LongHashTable<>();
+    assertNull(table.get(1L));
+    assertEquals(0, table.size());
+  }
+
+  @Test
+  void put_and_get_keys_beyond_initial_capacity() {
+    LongHashTable<String> table = new LongHashTable<>();
+    for (long key = -500; key < 500; key++) {
+      table.put(key * 1024, String.valueOf(key));
+    }
+
+    assertEquals(1000, table.size());
+    for (long key = -500; key < 500; key++) {
+      assertEquals(String.valueOf(key), table.get(key * 1024));
+    }
+    assertNull(table.get(1L));
+
+    Set<String> values = new HashSet<>();
+    table.forEach(values::add);
+    assertEquals(1000, values.size());
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ObjectHashTableTest {
+
+  @Test
+  void get_absent_key() {
+    ObjectHashTable<String, Integer> table = new ObjectHashTable<>();
+    assertNull(table.get("a"));
+    assertEquals(0, table.size());
+  }
+
+  @Test
+  void put_and_get_keys_beyond_initial_capacity() {
+    ObjectHashTable<String, Integer> table = new ObjectHashTable<>();
+    for (int i = 0; i < 1000; i++) {
+      table.put("key" + i, i);
+    }
+
+    assertEquals(1000, table.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, table.get("key" + i));
+    }
+    assertNull(table.get("key1000"));
+
+    Set<Integer> values = new HashSet<>();
+    table.forEach(values::add);
+    assertEquals(1000, values.size());
+  }
+
+  @Test
+  void put_and_get_keys_with_same_hash_code() {
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+
+    ObjectHashTable<String, Integer> table = new ObjectHashTable<>();
+    table.put("Aa", 1);
+    table.put("BB", 2);
+
+    assertEquals(1, table.get("Aa"));
+    assertEquals(2, table.get("BB"));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
+
+@ExtendWith(MockitoExtension.class)
+class SpillableCollectorTest {
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private ResourceMonitor resourceMonitor;
+
+  @Test
+  void spill_when_resource_is_not_healthy() throws IOException {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+    SpillableCollector collector = collector(Integer.MAX_VALUE);
+    for (int i = 0; i < 20000; i++) {
+      collector.collect(ExprValueUtils.tupleValue(ImmutableMap.of("id", i % 15000)));
+    }
+    assertTrue(countFiles() > 0);
+
+    List<ExprValue> results = ImmutableList.copyOf(collector.results());
+    assertEquals(15000, results.size());
+    for (int i = 0; i < 15000; i++) {
+      int count = (i < 5000) ? 2 : 1;
+      assertEquals(ExprValueUtils.tupleValue(ImmutableMap.of("id", i, "count", count)),
+          results.get(i));
+    }
+
+    collector.close();
+    assertEquals(0, countFiles());
+  }
+
+  @Test
+  void close_without_results_should_delete_spill_files() throws IOException {
+    SpillableCollector collector = collector(2);
+    for (int i = 0; i < 100; i++) {
+      collector.collect(ExprValueUtils.tupleValue(ImmutableMap.of("id", i)));
+    }
+    assertTrue(countFiles() > 0);
+
+    collector.close();
+    assertEquals(0, countFiles());
+  }
+
+  @Test
+  void spill_rows_with_fields_read_by_aggregators() throws IOException {
+    Expression value = DSL.ref("value", INTEGER);
+    Expression span = DSL.span(value, DSL.literal(10), "");
+    assertSpilledResults(
+        DSL.named("count",
+            DSL.count(DSL.abs(value)).condition(DSL.greater(value, DSL.literal(10)))),
+        DSL.named("parsed", DSL.count(DSL.regex(DSL.ref("name", STRING),
+            DSL.literal("n(?<num>\\d+)"), DSL.literal("num")))));
+    // the whole rows are spilled if the fields read are unknown
+    assertSpilledResults(DSL.named("count", DSL.count(span)));
+    assertSpilledResults(DSL.named("count", DSL.count(DSL.abs(span))));
+    assertSpilledResults(
+        DSL.named("count", DSL.count(value).condition(DSL.greater(span, DSL.literal(10)))));
+  }
+
+  private void assertSpilledResults(NamedAggregator... aggregators) throws IOException {
+    List<NamedExpression> groups =
+        Collections.singletonList(DSL.named("id", DSL.ref("id", INTEGER)));
+    BucketCollector expected =
+        new BucketCollector(groups, () -> new MetricCollector(Arrays.asList(aggregators)));
+    SpillableCollector collector = new SpillableCollector(groups, Arrays.asList(aggregators),
+        new SpillConfig(directory, 4, resourceMonitor));
+    for (int i = 0; i < 1000; i++) {
+      ExprValue row = ExprValueUtils.tupleValue(ImmutableMap.of(
+          "id", i % 300, "value", i, "name", "n" + i, "unused", "unused" + i));
+      expected.collect(row.bindingTuples());
+      collector.collect(row);
+    }
+    assertTrue(countFiles() > 0);
+
+    List<ExprValue> results = new ArrayList<>();
+    collector.results().forEachRemaining(results::add);
+    assertEquals(expected.results(), results);
+    collector.close();
+    assertEquals(0, countFiles());
+  }
+
+  private SpillableCollector collector(int maxBucketsInMemory) {
+    return new SpillableCollector(
+        Collections.singletonList(DSL.named("id", DSL.ref("id", INTEGER))),
+        Collections.singletonList(DSL.named("count", DSL.count(DSL.ref("id", INTEGER)))),
+        new SpillConfig(directory, maxBucketsInMemory, resourceMonitor));
+  }
+
+  private long countFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Paths;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.monitor.ResourceMonitor;
+
+@ExtendWith(MockitoExtension.class)
+class SpillConfigTest {
+
+  @Mock
+  private ResourceMonitor monitor;
+
+  private SpillConfig spillConfig;
+
+  @BeforeEach
+  void setUp() {
+    spillConfig = new SpillConfig(Paths.get("spill"), 5000, monitor);
+  }
+
+  @Test
+  void should_not_spill_empty_buffer() {
+    assertFalse(spillConfig.shouldSpill(0));
+    verify(monitor, never()).isHealthy();
+  }
+
+  @Test
+  void should_spill_if_exceed_max_rows_in_memory() {
+    assertTrue(spillConfig.shouldSpill(5000));
+    verify(monitor, never()).isHealthy();
+  }
+
+  @Test
+  void should_only_check_resource_every_number_of_rows() {
+    spillConfig = new SpillConfig(Paths.get("spill"), Integer.MAX_VALUE, monitor);
+    assertFalse(spillConfig.shouldSpill(SpillConfig.MIN_ROWS_TO_SPILL + 1));
+    verify(monitor, never()).isHealthy();
+  }
+
+  @Test
+  void should_not_check_resource_before_min_rows_to_spill() {
+    assertFalse(spillConfig.shouldSpill(SpillConfig.NUMBER_OF_ROWS_TO_CHECK));
+    verify(monitor, never()).isHealthy();
+  }
+
+  @Test
+  void should_spill_if_resource_is_not_healthy() {
+    spillConfig = new SpillConfig(Paths.get("spill"), Integer.MAX_VALUE, monitor);
+    when(monitor.isHealthy()).thenReturn(false);
+    assertTrue(spillConfig.shouldSpill(SpillConfig.MIN_ROWS_TO_SPILL));
+  }
+
+  @Test
+  void should_not_spill_if_resource_is_healthy() {
+    spillConfig = new SpillConfig(Paths.get("spill"), Integer.MAX_VALUE, monitor);
+    when(monitor.isHealthy()).thenReturn(true);
+    assertFalse(spillConfig.shouldSpill(SpillConfig.MIN_ROWS_TO_SPILL));
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class SpillFileTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void write_and_read_back_in_order() {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      rows.add(ExprValueUtils.tupleValue(ImmutableMap.of("id", i, "name", "name" + i)));
+    }
+
+    SpillFile<ExprValue> file = SpillFile.write(directory.resolve("spill"), rows);
+    assertEquals(2500, file.getSize());
+    assertTrue(Files.exists(file.getPath()));
+
+    List<ExprValue> actual = new ArrayList<>();
+    file.iterator().forEachRemaining(actual::add);
+    assertEquals(rows, actual);
+
+    file.close();
+    assertFalse(Files.exists(file.getPath()));
+  }
+
+  @Test
+  void close_without_reading_deletes_file() {
+    SpillFile<ExprValue> file =
+        SpillFile.write(directory, ImmutableList.of(ExprValueUtils.integerValue(1)));
+
+    file.close();
+    assertFalse(Files.exists(file.getPath()));
+  }
+
+  @Test
+  void write_to_invalid_directory_should_throw_exception() throws IOException {
+    Path notDirectory = Files.createFile(directory.resolve("file"));
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> SpillFile.write(notDirectory, ImmutableList.of(ExprValueUtils.integerValue(1))));
+    assertEquals("Failed to spill to directory: " + notDirectory, exception.getMessage());
+  }
+
+  @Test
+  void write_unserializable_object_should_throw_exception_and_delete_file() throws IOException {
+    assertThrows(IllegalStateException.class,
+        () -> SpillFile.write(directory, ImmutableList.of(new Unserializable())));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  void write_failure_of_iterable_should_delete_file() throws IOException {
+    Iterable<ExprValue> failing = () -> {
+      throw new IllegalStateException("iterate failed");
+    };
+    assertThrows(IllegalStateException.class, () -> SpillFile.write(directory, failing));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  void delete_all_spill_files_left_in_directory() throws IOException {
+    SpillFile<ExprValue> file =
+        SpillFile.write(directory, ImmutableList.of(ExprValueUtils.integerValue(1)));
+    Path other = Files.createFile(directory.resolve("other"));
+
+    SpillFile.deleteAll(directory);
+    assertFalse(Files.exists(file.getPath()));
+    assertTrue(Files.exists(other));
+
+    // nothing to delete if the directory doesn't exist
+    SpillFile.deleteAll(directory.resolve("absent"));
+  }
+
+  @Test
+  void delete_all_failure_should_throw_exception() throws IOException {
+    Path nonEmptyDirectory = Files.createDirectories(directory.resolve("sql-spill-dir"));
+    Files.createFile(nonEmptyDirectory.resolve("file"));
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> SpillFile.deleteAll(directory));
+    assertEquals("Failed to delete spill files in directory: " + directory,
+        exception.getMessage());
+  }
+
+  @Test
+  void read_deleted_file_should_throw_exception() {
+    SpillFile<ExprValue> file =
+        SpillFile.write(directory, ImmutableList.of(ExprValueUtils.integerValue(1)));
+    file.close();
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, file::iterator);
+    assertEquals("Failed to open spill file: " + file.getPath(), exception.getMessage());
+  }
+
+  @Test
+  void read_corrupted_file_should_throw_exception() throws IOException {
+    SpillFile<ExprValue> file =
+        SpillFile.write(directory, ImmutableList.of(ExprValueUtils.integerValue(1)));
+    byte[] content = Files.readAllBytes(file.getPath());
+    Files.write(file.getPath(), Arrays.copyOf(content, content.length - 1));
+
+    Iterator<ExprValue> iterator = file.iterator();
+    assertTrue(iterator.hasNext());
+    IllegalStateException exception = assertThrows(IllegalStateException.class, iterator::next);
+    assertEquals("Failed to read spill file: " + file.getPath(), exception.getMessage());
+    file.close();
+  }
+
+  @Test
+  void delete_failure_should_throw_exception() throws IOException {
+    Path nonEmptyDirectory = Files.createDirectories(directory.resolve("dir"));
+    Files.createFile(nonEmptyDirectory.resolve("file"));
+    SpillFile<ExprValue> file = new SpillFile<>(nonEmptyDirectory, 0);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, file::close);
+    assertEquals("Failed to delete spill file: " + nonEmptyDirectory, exception.getMessage());
+  }
+
+  @Test
+  void writer_appends_objects_one_by_one() {
+    SpillFile.Writer<ExprValue> writer = SpillFile.writer(directory);
+    writer.append(ExprValueUtils.integerValue(1));
+    writer.append(ExprValueUtils.integerValue(2));
+    assertEquals(2, writer.getSize());
+
+    SpillFile<ExprValue> file = writer.finish();
+    List<ExprValue> actual = new ArrayList<>();
+    file.iterator().forEachRemaining(actual::add);
+    assertEquals(
+        Arrays.asList(ExprValueUtils.integerValue(1), ExprValueUtils.integerValue(2)), actual);
+    file.close();
+  }
+
+  @Test
+  void close_writer_deletes_unfinished_file() throws IOException {
+    SpillFile.Writer<ExprValue> writer = SpillFile.writer(directory);
+    writer.append(ExprValueUtils.integerValue(1));
+
+    writer.close();
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  void finish_failure_should_throw_exception_and_delete_file() throws IOException {
+    Path path = Files.createFile(directory.resolve("file"));
+    SpillFile.Writer<ExprValue> writer =
+        new SpillFile.Writer<>(directory, path, new ObjectOutputStream(new FailingOutputStream()));
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, writer::finish);
+    assertEquals("Failed to spill to directory: " + directory, exception.getMessage());
+    assertFalse(Files.exists(path));
+  }
+
+  @Test
+  void close_writer_failure_should_throw_exception() throws IOException {
+    Path nonEmptyDirectory = Files.createDirectories(directory.resolve("dir"));
+    Files.createFile(nonEmptyDirectory.resolve("file"));
+    SpillFile.Writer<ExprValue> writer = new SpillFile.Writer<>(
+        directory, nonEmptyDirectory, new ObjectOutputStream(new ByteArrayOutputStream()));
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, writer::close);
+    assertEquals("Failed to delete spill file: " + nonEmptyDirectory, exception.getMessage());
+  }
+
+  /**
+   * Output stream which fails to close for the first time.
+   */
+  private static class FailingOutputStream extends OutputStream {
+    private boolean closeFailed = false;
+
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closeFailed) {
+        closeFailed = true;
+        throw new IOException("close failed");
+      }
+    }
+  }
+
+  private static class Unserializable implements Serializable {
+    private final Object value = new Object();
+  }
+}
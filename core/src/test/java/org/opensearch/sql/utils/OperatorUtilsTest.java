@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.utils.OperatorUtils.compileLike;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.function.SerializableBiFunction;
+
+class OperatorUtilsTest {
+
+  @Test
+  void like_exact() {
+    assertLike("abc", "ABC", true);
+    assertLike("abc", "abcd", false);
+    assertLike("abc", "ab", false);
+    assertLike("a\nc", "A\nC", true);
+  }
+
+  @Test
+  void like_prefix() {
+    assertLike("ab%", "abc", true);
+    assertLike("ab%", "ABc", true);
+    assertLike("ab%", "ab", true);
+    assertLike("ab%", "xabc", false);
+    assertLike("ab%", "a", false);
+    assertLike("ab%", "ab\nc", false);
+  }
+
+  @Test
+  void like_suffix() {
+    assertLike("%bc", "abc", true);
+    assertLike("%bc", "aBC", true);
+    assertLike("%bc", "abcx", false);
+    assertLike("%bc", "a\rbc", false);
+  }
+
+  @Test
+  void like_contains() {
+    assertLike("%bc%", "abcd", true);
+    assertLike("%bc%", "bc", true);
+    assertLike("%bc%", "aBCd", true);
+    assertLike("%bc%", "abd", false);
+    assertLike("%bc%", "b", false);
+    assertLike("%bc%", "a\u2028bcd", false);
+  }
+
+  @Test
+  void like_any() {
+    assertLike("%", "", true);
+    assertLike("%", "abc", true);
+    assertLike("%%", "abc", true);
+    assertLike("%", "a\u0085c", false);
+    assertLike("%%", "a\u2029c", false);
+  }
+
+  @Test
+  void like_ignore_case_of_ascii_only() {
+    assertLike("%\u00e9%", "\u00c9", false);
+    assertLike("\u00e9", "\u00c9", false);
+    assertLike("[%", "{", false);
+    assertLike("@%", "`", false);
+  }
+
+  @Test
+  void like_regular_expression() {
+    assertLike("a_c", "abc", true);
+    assertLike("a%b%c", "axbyc", true);
+    assertLike("a\\%c", "a%c", true);
+    assertLike("a\\%c", "abc", false);
+    assertLike("%a\\_c", "xa_c", true);
+    assertLike("%a?%", "b", true);
+    assertLike("%a{2}%", "aa", true);
+    assertLike("%a}%", "a}", true);
+    assertLike("%.%", "a", false);
+  }
+
+  @Test
+  void like_literal_pattern() {
+    SerializableBiFunction<ExprValue, ExprValue, ExprValue> like =
+        OperatorUtils.like(DSL.literal("a%"));
+    assertEquals(LITERAL_TRUE, like.apply(stringValue("abc"), stringValue("a%")));
+    assertEquals(LITERAL_FALSE, like.apply(stringValue("bc"), stringValue("a%")));
+
+    like = OperatorUtils.like(DSL.literal(LITERAL_NULL));
+    assertEquals(LITERAL_TRUE, like.apply(stringValue("abc"), stringValue("a%")));
+  }
+
+  @Test
+  void like_non_literal_pattern() {
+    SerializableBiFunction<ExprValue, ExprValue, ExprValue> like =
+        OperatorUtils.like(DSL.ref("pattern", STRING));
+    for (int i = 0; i < 300; i++) {
+      String pattern = "a" + (i % 150) + "%";
+      assertEquals(LITERAL_TRUE, like.apply(stringValue(pattern + "b"), stringValue(pattern)));
+      assertEquals(LITERAL_FALSE, like.apply(stringValue("b"), stringValue(pattern)));
+    }
+  }
+
+  @Test
+  void regexp_pattern() {
+    SerializableBiFunction<ExprValue, ExprValue, ExprValue> regexp =
+        OperatorUtils.regexp(DSL.literal("a.c"));
+    assertEquals(1, regexp.apply(stringValue("abc"), stringValue("a.c")).integerValue());
+    assertEquals(0, regexp.apply(stringValue("ac"), stringValue("a.c")).integerValue());
+
+    regexp = OperatorUtils.regexp(DSL.ref("pattern", STRING));
+    assertEquals(1, regexp.apply(stringValue("abc"), stringValue("a.*")).integerValue());
+    assertEquals(0, regexp.apply(stringValue("abc"), stringValue("b.*")).integerValue());
+  }
+
+  private static void assertLike(String pattern, String text, boolean expected) {
+    assertEquals(expected, compileLike(pattern).matches(text));
+    assertEquals(expected,
+        OperatorUtils.matches(stringValue(text), stringValue(pattern)).booleanValue());
+  }
+}
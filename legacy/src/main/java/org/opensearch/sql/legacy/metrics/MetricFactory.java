@@ -6,6 +6,8 @@
 
 package org.opensearch.sql.legacy.metrics;
 
+import org.opensearch.sql.executor.LogicalPlanCache;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 
 public class MetricFactory {
@@ -20,6 +22,25 @@ public class MetricFactory {
                 return new NumericMetric<>(name.getName(), new BasicCounter());
             case CIRCUIT_BREAKER:
                 return new GaugeMetric<>(name.getName(), BackOffRetryStrategy.GET_CB_STATE);
+            case SQL_AST_CACHE_HIT:
+                return new GaugeMetric<>(name.getName(), StatementCache.SQL::getHitCount);
+            case SQL_AST_CACHE_MISS:
+                return new GaugeMetric<>(name.getName(), StatementCache.SQL::getMissCount);
+            case SQL_AST_BUILD_TIME:
+                return new GaugeMetric<>(name.getName(), StatementCache.SQL::getBuildTimeMillis);
+            case PPL_AST_CACHE_HIT:
+                return new GaugeMetric<>(name.getName(), StatementCache.PPL::getHitCount);
+            case PPL_AST_CACHE_MISS:
+                return new GaugeMetric<>(name.getName(), StatementCache.PPL::getMissCount);
+            case PPL_AST_BUILD_TIME:
+                return new GaugeMetric<>(name.getName(), StatementCache.PPL::getBuildTimeMillis);
+            case PLAN_CACHE_HIT:
+                return new GaugeMetric<>(name.getName(), LogicalPlanCache.DEFAULT::getHitCount);
+            case PLAN_CACHE_MISS:
+                return new GaugeMetric<>(name.getName(), LogicalPlanCache.DEFAULT::getMissCount);
+            case PLAN_CACHE_EVICTION:
+                return new GaugeMetric<>(name.getName(),
+                    LogicalPlanCache.DEFAULT::getEvictionCount);
             case REQ_COUNT_TOTAL:
             case DEFAULT_CURSOR_REQUEST_COUNT_TOTAL:
             case FAILED_REQ_COUNT_CUS:
@@ -27,7 +27,18 @@ public enum MetricName {
     PPL_REQ_TOTAL("ppl_request_total"),
     PPL_REQ_COUNT_TOTAL("ppl_request_count"),
     PPL_FAILED_REQ_COUNT_SYS("ppl_failed_request_count_syserr"),
-    PPL_FAILED_REQ_COUNT_CUS("ppl_failed_request_count_cuserr");
+    PPL_FAILED_REQ_COUNT_CUS("ppl_failed_request_count_cuserr"),
+
+    SQL_AST_CACHE_HIT("sql_ast_cache_hit_count"),
+    SQL_AST_CACHE_MISS("sql_ast_cache_miss_count"),
+    SQL_AST_BUILD_TIME("sql_ast_build_time_millis"),
+    PPL_AST_CACHE_HIT("ppl_ast_cache_hit_count"),
+    PPL_AST_CACHE_MISS("ppl_ast_cache_miss_count"),
+    PPL_AST_BUILD_TIME("ppl_ast_build_time_millis"),
+
+    PLAN_CACHE_HIT("plan_cache_hit_count"),
+    PLAN_CACHE_MISS("plan_cache_miss_count"),
+    PLAN_CACHE_EVICTION("plan_cache_eviction_count");
 
     private String name;
 
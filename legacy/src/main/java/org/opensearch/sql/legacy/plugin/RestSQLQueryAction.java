@@ -10,11 +10,16 @@ import static org.opensearch.rest.RestStatus.OK;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
@@ -171,8 +176,18 @@ public class RestSQLQueryAction extends BaseRestHandler {
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(channel, OK,
-            formatter.format(new QueryResult(response.getSchema(), response.getResults())));
+        // Write the content to paged byte array directly instead of building a string first
+        BytesStreamOutput output = new BytesStreamOutput();
+        try {
+          Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+          formatter.format(new QueryResult(response.getSchema(), response.getResults()), writer);
+          writer.flush();
+        } catch (IOException e) {
+          onFailure(e);
+          return;
+        }
+        channel.sendResponse(new BytesRestResponse(
+            OK, "application/json; charset=UTF-8", output.bytes()));
       }
 
       @Override
@@ -14,7 +14,9 @@ import java.util.List;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.opensearch.sql.legacy.metrics.BasicCounter;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
 import org.opensearch.sql.legacy.metrics.Metric;
+import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.metrics.NumericMetric;
 
@@ -71,4 +73,26 @@ public class MetricsTest {
         assertThat(jsonObject.getInt("test2"), equalTo(0));
     }
 
+    @Test
+    public void registerAstCacheGauges() {
+        Metrics.getInstance().clear();
+        Metrics.getInstance().registerDefaultMetrics();
+        Metric metric = Metrics.getInstance().getMetric(MetricName.PPL_AST_CACHE_HIT.getName());
+        JSONObject jsonObject = new JSONObject(Metrics.getInstance().collectToJSON());
+
+        assertThat(metric instanceof GaugeMetric, equalTo(true));
+        assertThat(jsonObject.has(MetricName.SQL_AST_BUILD_TIME.getName()), equalTo(true));
+    }
+
+    @Test
+    public void registerPlanCacheGauges() {
+        Metrics.getInstance().clear();
+        Metrics.getInstance().registerDefaultMetrics();
+        JSONObject jsonObject = new JSONObject(Metrics.getInstance().collectToJSON());
+
+        assertThat(jsonObject.has(MetricName.PLAN_CACHE_HIT.getName()), equalTo(true));
+        assertThat(jsonObject.has(MetricName.PLAN_CACHE_MISS.getName()), equalTo(true));
+        assertThat(jsonObject.has(MetricName.PLAN_CACHE_EVICTION.getName()), equalTo(true));
+    }
+
 }
@@ -52,6 +52,14 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch the number of primary shards according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of primary shards
+   */
+  Map<String, Integer> getIndexShardCounts(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -88,5 +96,14 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Run a task concurrently with the caller, e.g. fetch a page in background. The task may be
+   * rejected with {@link java.util.concurrent.RejectedExecutionException} if there is no
+   * capacity left.
+   *
+   * @param task task
+   */
+  void execute(Runnable task);
+
   NodeClient getNodeClient();
 }
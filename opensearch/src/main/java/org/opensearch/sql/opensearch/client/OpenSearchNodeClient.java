@@ -18,6 +18,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.ThreadContext;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
@@ -26,6 +27,7 @@ import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexSettings;
@@ -39,6 +41,8 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   public static final Function<String, Predicate<String>> ALL_FIELDS =
       (anyIndex -> (anyField -> true));
 
+  private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+
   /** Node client provided by OpenSearch container. */
   private final NodeClient client;
 
@@ -130,6 +134,25 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexShardCounts(String... indexExpression) {
+    try {
+      GetSettingsResponse settingsResponse =
+          client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
+      ImmutableMap.Builder<String, Integer> result = ImmutableMap.builder();
+      for (ObjectObjectCursor<String, Settings> indexToSetting :
+          settingsResponse.getIndexToSettings()) {
+        result.put(
+            indexToSetting.key,
+            IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.get(indexToSetting.value));
+      }
+      return result.build();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read setting for index pattern [" + indexExpression + "]", e);
+    }
+  }
+
   /**
    * TODO: Scroll doesn't work for aggregation. Support aggregation later.
    */
@@ -182,6 +205,18 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     task.run();
   }
 
+  /**
+   * Run the task on the sql-worker thread pool with the thread context of the caller.
+   */
+  @Override
+  public void execute(Runnable task) {
+    final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+    client.threadPool().executor(SQL_WORKER_THREAD_POOL_NAME).execute(() -> {
+      ThreadContext.putAll(currentContext);
+      task.run();
+    });
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
@@ -30,6 +30,7 @@ import org.opensearch.client.indices.GetMappingsRequest;
 import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
@@ -109,6 +110,20 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexShardCounts(String... indexExpression) {
+    GetSettingsRequest request = new GetSettingsRequest().indices(indexExpression);
+    try {
+      GetSettingsResponse response = client.indices().getSettings(request, RequestOptions.DEFAULT);
+      Map<String, Integer> result = new HashMap<>();
+      response.getIndexToSettings().forEach(entry -> result.put(
+          entry.key, IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.get(entry.value)));
+      return result;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get number of shards for " + indexExpression, e);
+    }
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -192,6 +207,11 @@ public class OpenSearchRestClient implements OpenSearchClient {
     task.run();
   }
 
+  @Override
+  public void execute(Runnable task) {
+    task.run();
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
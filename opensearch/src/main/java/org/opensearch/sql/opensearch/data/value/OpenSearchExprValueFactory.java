@@ -27,9 +27,13 @@ import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEA
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -40,7 +44,10 @@ import java.util.Optional;
 import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.time.DateFormatters;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -118,14 +125,49 @@ public class OpenSearchExprValueFactory {
    * "INTEGER"} {"employ.state", "STRING"}
    */
   public ExprValue construct(String jsonString) {
-    try {
-      return parse(new OpenSearchJsonContent(OBJECT_MAPPER.readTree(jsonString)), TOP_PATH,
-          Optional.of(STRUCT));
-    } catch (JsonProcessingException e) {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(jsonString)) {
+      return construct(parser);
+    } catch (IOException e) {
       throw new IllegalStateException(String.format("invalid json: %s.", jsonString), e);
     }
   }
 
+  /**
+   * Construct ExprValue from the source of search hit. The JSON source is decoded from the bytes
+   * directly, without converting it to string first. The source of other content type is
+   * converted to JSON string.
+   *
+   * @param source source of search hit
+   * @return ExprValue
+   */
+  public ExprValue construct(BytesReference source) {
+    XContentType contentType = XContentHelper.xContentType(source);
+    try {
+      if (contentType != XContentType.JSON) {
+        return construct(XContentHelper.convertToJson(source, false, contentType));
+      }
+      try (JsonParser parser = createParser(source)) {
+        return construct(parser);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
+  private JsonParser createParser(BytesReference source) throws IOException {
+    if (source.hasArray()) {
+      return OBJECT_MAPPER.getFactory()
+          .createParser(source.array(), source.arrayOffset(), source.length());
+    }
+    return OBJECT_MAPPER.getFactory().createParser(source.streamInput());
+  }
+
+  private ExprValue construct(JsonParser parser) throws IOException {
+    parser.nextToken();
+    return parse(parser, TOP_PATH, Optional.of(STRUCT));
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying
    * to construct from field of unsupported type.
@@ -139,6 +181,38 @@ public class OpenSearchExprValueFactory {
     return parse(new ObjectContent(value), field, type(field));
   }
 
+  /**
+   * Decode the value at the current token of the parser. The struct is decoded while streaming
+   * through its fields, and the value of field not in the type mapping is skipped. Any other
+   * value is read into {@link JsonNode} and parsed as {@link Content}.
+   */
+  private ExprValue parse(JsonParser parser, String field, Optional<ExprType> fieldType)
+      throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL || !fieldType.isPresent()) {
+      parser.skipChildren();
+      return ExprNullValue.of();
+    }
+    if (fieldType.get() == STRUCT && token == JsonToken.START_OBJECT) {
+      return parseStruct(parser, field);
+    }
+
+    JsonNode value = (token == JsonToken.VALUE_STRING)
+        ? TextNode.valueOf(parser.getText()) : OBJECT_MAPPER.readTree(parser);
+    return parse(new OpenSearchJsonContent(value), field, fieldType);
+  }
+
+  private ExprValue parseStruct(JsonParser parser, String prefix) throws IOException {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      String field = makeField(prefix, name);
+      parser.nextToken();
+      result.put(name, parse(parser, field, type(field)));
+    }
+    return new ExprTupleValue(result);
+  }
+
   private ExprValue parse(Content content, String field, Optional<ExprType> fieldType) {
     if (content.isNull() || !fieldType.isPresent()) {
       return ExprNullValue.of();
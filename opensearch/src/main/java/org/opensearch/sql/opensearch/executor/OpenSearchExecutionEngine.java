@@ -45,8 +45,9 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
             context.getSplit().ifPresent(plan::add);
             plan.open();
 
-            while (plan.hasNext()) {
-              result.add(plan.next());
+            for (List<ExprValue> batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE);
+                 !batch.isEmpty(); batch = plan.nextBatch(PhysicalPlan.DEFAULT_BATCH_SIZE)) {
+              result.addAll(batch);
             }
 
             QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
@@ -22,8 +22,10 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TakeOrderedOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
@@ -37,6 +39,28 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
    */
   private final ResourceMonitor resourceMonitor;
 
+  /**
+   * Spill configuration of sort, null means no spilling.
+   */
+  private final SpillConfig sortSpillConfig;
+
+  /**
+   * Spill configuration of aggregation, null means no spilling.
+   */
+  private final SpillConfig aggregationSpillConfig;
+
+  /**
+   * Context of visiting the input of an operator which spills on memory pressure by itself. The
+   * table scan in the input is not decorated by {@link ResourceMonitorPlan}, which would fail the
+   * query on the memory pressure before the operator spills. The operators buffering their input
+   * in memory visit their input without the context.
+   */
+  private static final Object SPILLING_PARENT = new Object();
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, null, null);
+  }
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
@@ -46,15 +70,22 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new FilterOperator(visitInput(node.getInput(), context), node.getConditions());
   }
 
+  /**
+   * Spill the groups to disk on memory pressure if spilling is configured.
+   */
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
-    return new AggregationOperator(visitInput(node.getInput(), context), node.getAggregatorList(),
-        node.getGroupByExprList());
+    boolean spilling = aggregationSpillConfig != null && !node.getGroupByExprList().isEmpty();
+    return new AggregationOperator(
+        visitInput(node.getInput(), spilling ? SPILLING_PARENT : null),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        aggregationSpillConfig);
   }
 
   @Override
   public PhysicalPlan visitRareTopN(RareTopNOperator node, Object context) {
-    return new RareTopNOperator(visitInput(node.getInput(), context), node.getCommandType(),
+    return new RareTopNOperator(visitInput(node.getInput(), null), node.getCommandType(),
         node.getNoOfResults(), node.getFieldExprList(), node.getGroupByExprList());
   }
 
@@ -64,11 +95,12 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   }
 
   /**
-   * Decorate with {@link ResourceMonitorPlan}.
+   * Decorate with {@link ResourceMonitorPlan} unless the operator consuming the scan spills on
+   * memory pressure.
    */
   @Override
   public PhysicalPlan visitTableScan(TableScanOperator node, Object context) {
-    return doProtect(node);
+    return (context == SPILLING_PARENT) ? node : doProtect(node);
   }
 
   @Override
@@ -89,26 +121,46 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
 
   @Override
   public PhysicalPlan visitDedupe(DedupeOperator node, Object context) {
-    return new DedupeOperator(visitInput(node.getInput(), context), node.getDedupeList(),
+    return new DedupeOperator(visitInput(node.getInput(), null), node.getDedupeList(),
         node.getAllowedDuplication(), node.getKeepEmpty(), node.getConsecutive());
   }
 
   @Override
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
     return new WindowOperator(
-        doProtect(visitInput(node.getInput(), context)),
+        doProtect(visitInput(node.getInput(), null)),
         node.getWindowFunction(),
         node.getWindowDefinition());
   }
 
   /**
-   * Decorate with {@link ResourceMonitorPlan}.
+   * Decorate with {@link ResourceMonitorPlan}, or spill to disk on memory pressure if spilling
+   * is configured.
    */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
+    if (sortSpillConfig == null) {
+      return doProtect(
+          new SortOperator(
+              visitInput(node.getInput(), null),
+              node.getSortList()));
+    }
+    return new SortOperator(
+        visitInput(node.getInput(), SPILLING_PARENT),
+        node.getSortList(),
+        sortSpillConfig);
+  }
+
+  /**
+   * Decorate with {@link ResourceMonitorPlan}.
+   */
+  @Override
+  public PhysicalPlan visitTakeOrdered(TakeOrderedOperator node, Object context) {
     return doProtect(
-        new SortOperator(
-            visitInput(node.getInput(), context),
+        new TakeOrderedOperator(
+            visitInput(node.getInput(), null),
+            node.getLimit(),
+            node.getOffset(),
             node.getSortList()));
   }
 
@@ -133,7 +185,7 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   public PhysicalPlan visitMLCommons(PhysicalPlan node, Object context) {
     MLCommonsOperator mlCommonsOperator = (MLCommonsOperator) node;
     return doProtect(
-            new MLCommonsOperator(visitInput(mlCommonsOperator.getInput(), context),
+            new MLCommonsOperator(visitInput(mlCommonsOperator.getInput(), null),
                     mlCommonsOperator.getAlgorithm(),
                     mlCommonsOperator.getArguments(),
                     mlCommonsOperator.getNodeClient())
@@ -144,7 +196,7 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   public PhysicalPlan visitAD(PhysicalPlan node, Object context) {
     ADOperator adOperator = (ADOperator) node;
     return doProtect(
-            new ADOperator(visitInput(adOperator.getInput(), context),
+            new ADOperator(visitInput(adOperator.getInput(), null),
                     adOperator.getArguments(),
                     adOperator.getNodeClient()
                     )
@@ -155,7 +207,7 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   public PhysicalPlan visitML(PhysicalPlan node, Object context) {
     MLOperator mlOperator = (MLOperator) node;
     return doProtect(
-            new MLOperator(visitInput(mlOperator.getInput(), context),
+            new MLOperator(visitInput(mlOperator.getInput(), null),
                     mlOperator.getArguments(),
                     mlOperator.getNodeClient())
     );
@@ -82,4 +82,12 @@ public class ResourceMonitorPlan extends PhysicalPlan {
     }
     return delegate.next();
   }
+
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    if (!this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxSize);
+  }
 }
@@ -17,6 +17,11 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -25,7 +30,8 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * OpenSearch search request. This has to be stateful because it needs to:
  *
  * <p>1) Accumulate search source builder when visiting logical plan to push down operation. 2)
- * Indicate the search already done.
+ * Indicate the search already done. 3) Track the after key of composite aggregation to fetch
+ * the next page.
  */
 @EqualsAndHashCode
 @Getter
@@ -97,11 +103,40 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     if (searchDone) {
       return new OpenSearchResponse(SearchHits.empty(), exprValueFactory);
     } else {
-      searchDone = true;
-      return new OpenSearchResponse(searchAction.apply(searchRequest()), exprValueFactory);
+      SearchResponse searchResponse = searchAction.apply(searchRequest());
+      searchDone = !hasNextCompositePage(searchResponse);
+      return new OpenSearchResponse(searchResponse, exprValueFactory);
     }
   }
 
+  /**
+   * Composite aggregation is paginated by after key. If the composite buckets returned fill up
+   * the page, the after key is set for the next search to fetch the next page.
+   *
+   * @return true if there may be more composite buckets.
+   */
+  private boolean hasNextCompositePage(SearchResponse searchResponse) {
+    Aggregations aggregations = searchResponse.getAggregations();
+    if (aggregations == null || sourceBuilder.aggregations() == null) {
+      return false;
+    }
+
+    for (AggregationBuilder builder : sourceBuilder.aggregations().getAggregatorFactories()) {
+      Aggregation aggregation = aggregations.get(builder.getName());
+      if (builder instanceof CompositeAggregationBuilder
+          && aggregation instanceof CompositeAggregation) {
+        CompositeAggregationBuilder compositeBuilder = (CompositeAggregationBuilder) builder;
+        CompositeAggregation composite = (CompositeAggregation) aggregation;
+        if (composite.afterKey() != null
+            && composite.getBuckets().size() >= compositeBuilder.size()) {
+          compositeBuilder.aggregateAfter(composite.afterKey());
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     //do nothing.
@@ -24,6 +24,7 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -73,6 +74,13 @@ public class OpenSearchRequestBuilder {
   @ToString.Exclude
   private final OpenSearchExprValueFactory exprValueFactory;
 
+  /**
+   * Settings to read the page size of composite aggregation.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Settings settings;
+
   /**
    * Query size of the request.
    */
@@ -96,6 +104,7 @@ public class OpenSearchRequestBuilder {
     this.maxResultWindow = maxResultWindow;
     this.sourceBuilder = new SearchSourceBuilder();
     this.exprValueFactory = exprValueFactory;
+    this.settings = settings;
     this.querySize = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
     sourceBuilder.from(0);
     sourceBuilder.size(querySize);
@@ -145,13 +154,20 @@ public class OpenSearchRequestBuilder {
   }
 
   /**
-   * Push down aggregation to DSL request.
+   * Push down aggregation to DSL request. Composite aggregation is fetched page by page, the page
+   * size is configured by {@link Settings.Key#QUERY_AGGREGATION_BUCKET_SIZE}.
    *
    * @param aggregationBuilder pair of aggregation query and aggregation parser.
    */
   public void pushDownAggregation(
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder) {
-    aggregationBuilder.getLeft().forEach(builder -> sourceBuilder.aggregation(builder));
+    aggregationBuilder.getLeft().forEach(builder -> {
+      if (builder instanceof CompositeAggregationBuilder) {
+        ((CompositeAggregationBuilder) builder).size(
+            settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_BUCKET_SIZE));
+      }
+      sourceBuilder.aggregation(builder);
+    });
     sourceBuilder.size(0);
     exprValueFactory.setParser(aggregationBuilder.getRight());
   }
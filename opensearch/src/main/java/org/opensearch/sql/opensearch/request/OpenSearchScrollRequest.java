@@ -6,6 +6,10 @@
 
 package org.opensearch.sql.opensearch.request;
 
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -19,6 +23,9 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -133,6 +140,35 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     return new SearchScrollRequest().scroll(DEFAULT_SCROLL_TIMEOUT).scrollId(scrollId);
   }
 
+  /**
+   * Whether the scroll request can be split into slices whose hits are merged in any order, that
+   * is, the hits are neither sorted by field nor offset.
+   *
+   * @return true if the request can be sliced
+   */
+  public boolean isSliceable() {
+    List<SortBuilder<?>> sorts = sourceBuilder.sorts();
+    return sourceBuilder.from() <= 0
+        && (sorts == null || sorts.equals(List.of(SortBuilders.fieldSort(DOC_FIELD_NAME))));
+  }
+
+  /**
+   * Split the scroll request into slices which can be scrolled concurrently.
+   *
+   * @param max      number of slices
+   * @param pageSize number of hits in each page of a slice
+   * @return scroll request of each slice
+   */
+  public List<OpenSearchScrollRequest> slice(int max, int pageSize) {
+    List<OpenSearchScrollRequest> slices = new ArrayList<>(max);
+    for (int id = 0; id < max; id++) {
+      SearchSourceBuilder slice =
+          sourceBuilder.shallowCopy().slice(new SliceBuilder(id, max)).size(pageSize);
+      slices.add(new OpenSearchScrollRequest(indexName, slice, exprValueFactory));
+    }
+    return slices;
+  }
+
   /**
    * Reset internal state in case any stale data. However, ideally the same instance is not supposed
    * to be reused across different physical plan.
@@ -82,11 +82,20 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
    * @return mapping of field and type.
    */
   public Map<String, ExprType> getFieldTypes() {
+    return getFieldTypes(client.getIndexMappings(indexName.getIndexNames()));
+  }
+
+  /**
+   * Get the mapping of field and type from the index mappings given.
+   *
+   * @param indexMappings mapping of each index
+   * @return mapping of field and type.
+   */
+  public static Map<String, ExprType> getFieldTypes(Map<String, IndexMapping> indexMappings) {
     Map<String, ExprType> fieldTypes = new HashMap<>();
-    Map<String, IndexMapping> indexMappings = client.getIndexMappings(indexName.getIndexNames());
     for (IndexMapping indexMapping : indexMappings.values()) {
-      fieldTypes
-          .putAll(indexMapping.getAllFieldTypes(this::transformESTypeToExprType).entrySet().stream()
+      fieldTypes.putAll(
+          indexMapping.getAllFieldTypes(OpenSearchDataType::getExprType).entrySet().stream()
               .filter(entry -> !ExprCoreType.UNKNOWN.equals(entry.getValue()))
               .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
     }
@@ -103,8 +112,14 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
         .values().stream().min(Integer::compare).get();
   }
 
-  private ExprType transformESTypeToExprType(String openSearchType) {
-    return OpenSearchDataType.getExprType(openSearchType);
+  /**
+   * Get the total number of primary shards of the indices.
+   *
+   * @return number of primary shards
+   */
+  public Integer getShardCount() {
+    return client.getIndexShardCounts(indexName.getIndexNames())
+        .values().stream().mapToInt(Integer::intValue).sum();
   }
 
   private ExprTupleValue row(String fieldName, String fieldType, int position, String clusterName) {
@@ -94,7 +94,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     } else {
       return Arrays.stream(hits.getHits())
           .map(hit -> {
-            ExprValue docData = exprValueFactory.construct(hit.getSourceAsString());
+            ExprValue docData = exprValueFactory.construct(hit.getSourceRef());
             if (hit.getHighlightFields().isEmpty()) {
               return docData;
             } else {
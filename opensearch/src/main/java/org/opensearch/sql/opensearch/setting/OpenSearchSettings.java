@@ -84,6 +84,41 @@ public class OpenSearchSettings extends Settings {
       Setting.Property.NodeScope,
       Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_SORT_SPILL_THRESHOLD_SETTING = Setting.intSetting(
+      Key.QUERY_SORT_SPILL_THRESHOLD.getKeyValue(),
+      1_000_000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_SPILL_THRESHOLD_SETTING = Setting.intSetting(
+      Key.QUERY_AGGREGATION_SPILL_THRESHOLD.getKeyValue(),
+      100_000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_BUCKET_SIZE_SETTING = Setting.intSetting(
+      Key.QUERY_AGGREGATION_BUCKET_SIZE.getKeyValue(),
+      1000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCROLL_SLICES_SETTING = Setting.intSetting(
+      Key.QUERY_SCROLL_SLICES.getKeyValue(),
+      0,
+      0,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCROLL_PREFETCH_SETTING = Setting.intSetting(
+      Key.QUERY_SCROLL_PREFETCH.getKeyValue(),
+      1,
+      0,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING = Setting.longSetting(
       Key.METRICS_ROLLING_WINDOW.getKeyValue(),
       LegacyOpenDistroSettings.METRICS_ROLLING_WINDOW_SETTING,
@@ -119,6 +154,17 @@ public class OpenSearchSettings extends Settings {
         QUERY_MEMORY_LIMIT_SETTING, new Updater(Key.QUERY_MEMORY_LIMIT));
     register(settingBuilder, clusterSettings, Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING, new Updater(Key.QUERY_SIZE_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_SORT_SPILL_THRESHOLD,
+        QUERY_SORT_SPILL_THRESHOLD_SETTING, new Updater(Key.QUERY_SORT_SPILL_THRESHOLD));
+    register(settingBuilder, clusterSettings, Key.QUERY_AGGREGATION_SPILL_THRESHOLD,
+        QUERY_AGGREGATION_SPILL_THRESHOLD_SETTING,
+        new Updater(Key.QUERY_AGGREGATION_SPILL_THRESHOLD));
+    register(settingBuilder, clusterSettings, Key.QUERY_AGGREGATION_BUCKET_SIZE,
+        QUERY_AGGREGATION_BUCKET_SIZE_SETTING, new Updater(Key.QUERY_AGGREGATION_BUCKET_SIZE));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCROLL_SLICES,
+        QUERY_SCROLL_SLICES_SETTING, new Updater(Key.QUERY_SCROLL_SLICES));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCROLL_PREFETCH,
+        QUERY_SCROLL_PREFETCH_SETTING, new Updater(Key.QUERY_SCROLL_PREFETCH));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_WINDOW,
         METRICS_ROLLING_WINDOW_SETTING, new Updater(Key.METRICS_ROLLING_WINDOW));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_INTERVAL,
@@ -172,6 +218,11 @@ public class OpenSearchSettings extends Settings {
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_SORT_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_AGGREGATION_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_AGGREGATION_BUCKET_SIZE_SETTING)
+        .add(QUERY_SCROLL_SLICES_SETTING)
+        .add(QUERY_SCROLL_PREFETCH_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .build();
@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
+
+/**
+ * Node level cache of the index metadata read by {@link OpenSearchIndex}, which saves the get
+ * mappings and get settings calls and the mapping parsing of every query. The flattened field
+ * types and the max result window are cached by the index name, either a concrete index or an
+ * index pattern, and are all invalidated once the metadata in cluster state changes.
+ *
+ * <p>Same as the mapping cache of the legacy LocalClusterState, only the unfiltered metadata read
+ * from cluster state is cached. The get mappings and get settings calls are filtered by the
+ * security plugin per user, by the index permissions and the field level security, so the cache
+ * is bypassed if the query runs in a security context and the metadata is loaded by these calls
+ * of the user instead.</p>
+ *
+ * <p>The cache is disabled until it listens to the cluster service.</p>
+ */
+public class IndexMetadataCache implements ClusterStateListener {
+
+  /**
+   * Transient header of the thread context where the security plugin puts the user info of the
+   * request authenticated.
+   */
+  static final String SECURITY_USER_INFO = "_opendistro_security_user_info";
+
+  /**
+   * Maximum number of index names cached.
+   */
+  private static final int MAX_CACHED_INDICES = 100;
+
+  /**
+   * Index metadata cache of this node.
+   */
+  public static final IndexMetadataCache DEFAULT = new IndexMetadataCache();
+
+  private final Cache<String, Map<String, ExprType>> fieldTypes =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_INDICES).build();
+
+  private final Cache<String, Integer> maxResultWindows =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_INDICES).build();
+
+  private ClusterService clusterService;
+
+  private IndexNameExpressionResolver resolver;
+
+  private ThreadContext threadContext;
+
+  private volatile boolean enabled = false;
+
+  /**
+   * Generation of the metadata, guarded by this cache. Value loaded on a previous generation is
+   * not cached.
+   */
+  private long generation = 0;
+
+  /**
+   * Enable the cache which reads the metadata from the cluster state of the cluster service, and
+   * invalidate it on the cluster state changes.
+   *
+   * @param clusterService cluster service
+   * @param resolver       resolver of the index name expression
+   * @param threadContext  thread context of the queries
+   */
+  public void setClusterService(ClusterService clusterService,
+                                IndexNameExpressionResolver resolver,
+                                ThreadContext threadContext) {
+    this.clusterService = clusterService;
+    this.resolver = resolver;
+    this.threadContext = threadContext;
+    clusterService.addListener(this);
+    enabled = true;
+  }
+
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (event.metadataChanged()) {
+      synchronized (this) {
+        generation++;
+        fieldTypes.invalidateAll();
+        maxResultWindows.invalidateAll();
+      }
+    }
+  }
+
+  /**
+   * Get the field types of the index from the cache, or by the loader if the cache doesn't
+   * apply.
+   *
+   * @param indexName index name or pattern
+   * @param loader    loader of the field types visible to the current user
+   * @return field types, which can't be modified
+   */
+  public Map<String, ExprType> getFieldTypes(OpenSearchRequest.IndexName indexName,
+                                             Supplier<Map<String, ExprType>> loader) {
+    return get(fieldTypes, indexName, () -> Collections.unmodifiableMap(loader.get()),
+        indices -> {
+          Map<String, IndexMapping> mappings = new HashMap<>();
+          indices.forEach((name, index) -> {
+            if (index.mapping() != null) {
+              mappings.put(name, new IndexMapping(index.mapping()));
+            }
+          });
+          return Collections.unmodifiableMap(
+              OpenSearchDescribeIndexRequest.getFieldTypes(mappings));
+        });
+  }
+
+  /**
+   * Get the max result window of the index from the cache, or by the loader if the cache doesn't
+   * apply.
+   *
+   * @param indexName index name or pattern
+   * @param loader    loader of the max result window visible to the current user
+   * @return max result window
+   */
+  public Integer getMaxResultWindow(OpenSearchRequest.IndexName indexName,
+                                    Supplier<Integer> loader) {
+    return get(maxResultWindows, indexName, loader,
+        indices -> indices.values().stream()
+            .map(index -> IndexSettings.MAX_RESULT_WINDOW_SETTING.get(index.getSettings()))
+            .min(Integer::compare)
+            .orElse(IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(Settings.EMPTY)));
+  }
+
+  private <T> T get(Cache<String, T> cache, OpenSearchRequest.IndexName indexName,
+                    Supplier<T> loader, Function<Map<String, IndexMetadata>, T> reader) {
+    if (!enabled || isSecured(threadContext)) {
+      return loader.get();
+    }
+
+    String key = indexName.toString();
+    T value = cache.getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+
+    long loadedGeneration;
+    synchronized (this) {
+      loadedGeneration = generation;
+    }
+    value = reader.apply(readIndices(indexName));
+    synchronized (this) {
+      if (loadedGeneration == generation) {
+        cache.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Whether the query runs in a security context, where the metadata may be filtered per user.
+   *
+   * @param threadContext thread context of the query
+   * @return true if the request is authenticated by the security plugin
+   */
+  public static boolean isSecured(ThreadContext threadContext) {
+    return threadContext.getTransient(SECURITY_USER_INFO) != null;
+  }
+
+  /**
+   * Read the metadata of the indices matched by the index name from cluster state.
+   */
+  private Map<String, IndexMetadata> readIndices(OpenSearchRequest.IndexName indexName) {
+    ClusterState state = clusterService.state();
+    String[] concreteIndices = resolver.concreteIndexNames(
+        state, IndicesOptions.strictExpandOpen(), true, indexName.getIndexNames());
+    Map<String, IndexMetadata> indices = new HashMap<>();
+    for (String index : concreteIndices) {
+      indices.put(index, state.metadata().index(index));
+    }
+    return indices;
+  }
+}
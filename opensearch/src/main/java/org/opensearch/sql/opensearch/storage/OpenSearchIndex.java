@@ -43,6 +43,11 @@ public class OpenSearchIndex implements Table {
    */
   private final OpenSearchRequest.IndexName indexName;
 
+  /**
+   * Node level cache of the index metadata shared by the tables.
+   */
+  private final IndexMetadataCache metadataCache;
+
   /**
    * The cached mapping of field and type in index.
    */
@@ -57,9 +62,18 @@ public class OpenSearchIndex implements Table {
    * Constructor.
    */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
+    this(client, settings, indexName, IndexMetadataCache.DEFAULT);
+  }
+
+  /**
+   * Constructor with the index metadata cache given.
+   */
+  public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName,
+                         IndexMetadataCache metadataCache) {
     this.client = client;
     this.settings = settings;
     this.indexName = new OpenSearchRequest.IndexName(indexName);
+    this.metadataCache = metadataCache;
   }
 
   @Override
@@ -87,7 +101,8 @@ public class OpenSearchIndex implements Table {
   @Override
   public Map<String, ExprType> getFieldTypes() {
     if (cachedFieldTypes == null) {
-      cachedFieldTypes = new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
+      cachedFieldTypes = metadataCache.getFieldTypes(indexName,
+          () -> new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes());
     }
     return cachedFieldTypes;
   }
@@ -97,8 +112,8 @@ public class OpenSearchIndex implements Table {
    */
   public Integer getMaxResultWindow() {
     if (cachedMaxResultWindow == null) {
-      cachedMaxResultWindow =
-          new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow();
+      cachedMaxResultWindow = metadataCache.getMaxResultWindow(indexName,
+          () -> new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow());
     }
     return cachedMaxResultWindow;
   }
@@ -6,8 +6,10 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,6 +19,8 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -27,6 +31,12 @@ import org.opensearch.sql.storage.TableScanOperator;
 @ToString(onlyExplicitlyIncluded = true)
 public class OpenSearchIndexScan extends TableScanOperator {
 
+  /** Maximum number of slices a scroll request is split into. */
+  static final int MAX_SCROLL_SLICES = 16;
+
+  /** Maximum number of pages of a sliced scroll being fetched or buffered. */
+  static final int MAX_SLICED_SCROLL_PAGES = 4;
+
   /** OpenSearch client. */
   private final OpenSearchClient client;
 
@@ -52,6 +62,9 @@ public class OpenSearchIndexScan extends TableScanOperator {
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Pages of the scroll request fetched ahead, null if not fetched ahead. */
+  private OpenSearchScroll scroll;
+
   /**
    * Constructor.
    */
@@ -80,6 +93,7 @@ public class OpenSearchIndexScan extends TableScanOperator {
     request = requestBuilder.build();
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    scroll = openScroll();
     fetchNextBatch();
   }
 
@@ -99,8 +113,74 @@ public class OpenSearchIndexScan extends TableScanOperator {
     return iterator.next();
   }
 
+  /**
+   * Take the rows of the current page as a batch, the next page is fetched only if the current
+   * one is consumed.
+   */
+  @Override
+  public List<ExprValue> nextBatch(int maxSize) {
+    List<ExprValue> batch = new ArrayList<>();
+    if (hasNext()) {
+      int size = Math.min(maxSize, querySize - queryCount);
+      while (batch.size() < size && iterator.hasNext()) {
+        batch.add(iterator.next());
+      }
+      queryCount += batch.size();
+    }
+    return batch;
+  }
+
+  /**
+   * Fetch the pages of the scroll request ahead of the scan, either by scrolling the slices
+   * concurrently or by prefetching the pages configured by
+   * {@link Settings.Key#QUERY_SCROLL_PREFETCH}.
+   *
+   * @return pages fetched ahead, or null if the request is not a scroll request or prefetching
+   *     is disabled
+   */
+  private OpenSearchScroll openScroll() {
+    if (!(request instanceof OpenSearchScrollRequest)) {
+      return null;
+    }
+    OpenSearchScrollRequest scrollRequest = (OpenSearchScrollRequest) request;
+    int slices = scrollSlices(scrollRequest);
+    if (slices > 1) {
+      int pageSize =
+          Math.min(scrollRequest.getSourceBuilder().size(), ceilDiv(querySize, slices));
+      return new OpenSearchSlicedScroll(
+          client, scrollRequest.slice(slices, pageSize), MAX_SLICED_SCROLL_PAGES);
+    }
+    int prefetch =
+        requestBuilder.getSettings().getSettingValue(Settings.Key.QUERY_SCROLL_PREFETCH);
+    return (prefetch > 0) ? new OpenSearchPrefetchedScroll(client, request, prefetch) : null;
+  }
+
+  /**
+   * Number of slices to split the scroll request into, configured by
+   * {@link Settings.Key#QUERY_SCROLL_SLICES} or the number of shards by default. It is capped by
+   * {@link #MAX_SCROLL_SLICES} and by the number of pages of the query size, so the query which
+   * fits in one page is not sliced. The request which is not sliceable has one slice only.
+   */
+  private int scrollSlices(OpenSearchScrollRequest scrollRequest) {
+    if (!scrollRequest.isSliceable()) {
+      return 1;
+    }
+    int slices = requestBuilder.getSettings().getSettingValue(Settings.Key.QUERY_SCROLL_SLICES);
+    if (slices <= 0) {
+      slices = new OpenSearchDescribeIndexRequest(client, requestBuilder.getIndexName())
+          .getShardCount();
+    }
+    int pages = ceilDiv(querySize, scrollRequest.getSourceBuilder().size());
+    return Math.min(Math.min(slices, MAX_SCROLL_SLICES), pages);
+  }
+
+  private static int ceilDiv(int dividend, int divisor) {
+    return (int) ((dividend + (long) divisor - 1) / divisor);
+  }
+
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
+    OpenSearchResponse response =
+        (scroll == null) ? client.search(request) : scroll.next();
     if (!response.isEmpty()) {
       iterator = response.iterator();
     }
@@ -110,7 +190,11 @@ public class OpenSearchIndexScan extends TableScanOperator {
   public void close() {
     super.close();
 
-    client.cleanup(request);
+    if (scroll == null) {
+      client.cleanup(request);
+    } else {
+      scroll.close();
+    }
   }
 
   @Override
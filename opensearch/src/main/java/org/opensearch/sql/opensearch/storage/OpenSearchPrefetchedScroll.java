@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetch the pages of a scroll request ahead of the scan. The pages have to be fetched one after
+ * another because each page is fetched by the scroll id of the previous one, so the next page is
+ * fetched as soon as the previous one arrives, until the pages fetched ahead reach the limit.
+ *
+ * <p>Same as {@link OpenSearchSlicedScroll}, the page is fetched by
+ * {@link OpenSearchClient#execute(Runnable)}, or by the caller if the fetch is rejected or not
+ * started yet when the page is needed.</p>
+ */
+class OpenSearchPrefetchedScroll implements OpenSearchScroll {
+
+  private final OpenSearchClient client;
+
+  private final OpenSearchRequest request;
+
+  /**
+   * Maximum number of pages fetched ahead.
+   */
+  private final int maxPages;
+
+  /**
+   * Fetches not consumed yet, in the order they are issued.
+   */
+  private final Deque<PageFetch> pending = new ArrayDeque<>();
+
+  /**
+   * Whether there is a fetch issued but not finished.
+   */
+  private boolean fetching = false;
+
+  /**
+   * Whether the last page is fetched or any fetch failed.
+   */
+  private boolean exhausted = false;
+
+  /**
+   * The fetches not started yet are skipped once closed.
+   */
+  private volatile boolean closed = false;
+
+  /**
+   * Start to fetch the first page.
+   */
+  OpenSearchPrefetchedScroll(OpenSearchClient client, OpenSearchRequest request, int maxPages) {
+    this.client = client;
+    this.request = request;
+    this.maxPages = maxPages;
+    fetchAhead();
+  }
+
+  /**
+   * Get the next page and start to fetch the following page if not fetched yet.
+   */
+  @Override
+  public OpenSearchResponse next() {
+    PageFetch fetch;
+    synchronized (this) {
+      fetch = pending.poll();
+      fetchAhead();
+    }
+    return (fetch == null) ? emptyResponse() : fetch.response();
+  }
+
+  /**
+   * Wait for the fetch running, and clean up the scroll context.
+   */
+  @Override
+  public void close() {
+    List<PageFetch> fetches;
+    synchronized (this) {
+      closed = true;
+      fetches = new ArrayList<>(pending);
+      pending.clear();
+    }
+    fetches.forEach(PageFetch::await);
+    client.cleanup(request);
+  }
+
+  private synchronized void fetchAhead() {
+    if (fetching || exhausted || closed || pending.size() >= maxPages) {
+      return;
+    }
+    PageFetch fetch = new PageFetch(this::fetch);
+    pending.add(fetch);
+    fetching = true;
+    try {
+      client.execute(fetch);
+    } catch (RejectedExecutionException e) {
+      // The fetch is run by the caller once its page is needed.
+    }
+  }
+
+  private OpenSearchResponse fetch() {
+    boolean last = true;
+    try {
+      OpenSearchResponse response = closed ? emptyResponse() : client.search(request);
+      last = response.isEmpty();
+      return response;
+    } finally {
+      fetched(last);
+    }
+  }
+
+  private synchronized void fetched(boolean last) {
+    fetching = false;
+    exhausted = last;
+    fetchAhead();
+  }
+
+  private OpenSearchResponse emptyResponse() {
+    return new OpenSearchResponse(SearchHits.empty(), request.getExprValueFactory());
+  }
+}
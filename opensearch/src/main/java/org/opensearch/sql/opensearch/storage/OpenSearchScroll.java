@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Pages of scroll search which are fetched ahead of {@link OpenSearchIndexScan}.
+ */
+interface OpenSearchScroll {
+
+  /**
+   * Get the next page.
+   *
+   * @return next page, or empty response if the scroll is exhausted
+   */
+  OpenSearchResponse next();
+
+  /**
+   * Wait for the fetches running, and clean up the scroll context.
+   */
+  void close();
+}
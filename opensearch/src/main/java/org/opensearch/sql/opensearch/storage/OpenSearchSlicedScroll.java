@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Scroll the slices of a scroll request concurrently. Each slice has at most one page being
+ * fetched or waiting to be consumed, and the slices are only started or refilled while fewer
+ * than the given number of pages are outstanding, so the pages buffered are bounded regardless
+ * of the number of slices. The idle slices are refilled in turn, and the pages are handed out in
+ * the order they arrive.
+ *
+ * <p>The page of each slice is fetched by {@link OpenSearchClient#execute(Runnable)}. If the
+ * fetch is rejected or not started yet when its page is needed, the caller runs it by itself, so
+ * the scan makes progress even if the worker threads are all busy.</p>
+ */
+class OpenSearchSlicedScroll implements OpenSearchScroll {
+
+  private final OpenSearchClient client;
+
+  private final List<OpenSearchScrollRequest> slices;
+
+  /**
+   * Maximum number of pages being fetched or waiting to be consumed.
+   */
+  private final int maxPages;
+
+  /**
+   * Slices with more pages to fetch and no fetch pending, in the order to refill.
+   */
+  private final Deque<OpenSearchScrollRequest> idle;
+
+  /**
+   * Fetches not consumed yet, in the order they are issued.
+   */
+  private final Deque<SliceFetch> pending = new ArrayDeque<>();
+
+  /**
+   * The fetches not started yet are skipped once closed.
+   */
+  private volatile boolean closed = false;
+
+  /**
+   * Start to fetch the first page of the slices, up to the maximum number of pages.
+   */
+  OpenSearchSlicedScroll(OpenSearchClient client, List<OpenSearchScrollRequest> slices,
+                         int maxPages) {
+    this.client = client;
+    this.slices = slices;
+    this.maxPages = maxPages;
+    this.idle = new ArrayDeque<>(slices);
+    fetchAhead();
+  }
+
+  /**
+   * Get the next page of any slice and start to fetch the following page of an idle slice.
+   */
+  @Override
+  public OpenSearchResponse next() {
+    while (!pending.isEmpty()) {
+      SliceFetch fetch = takeCompleted();
+      OpenSearchResponse response = fetch.response();
+      if (response.isEmpty()) {
+        fetchAhead();
+      } else {
+        idle.add(fetch.slice);
+        fetchAhead();
+        return response;
+      }
+    }
+    return emptyResponse();
+  }
+
+  /**
+   * Wait for the fetches running, and clean up the scroll context of all the slices.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (SliceFetch fetch : pending) {
+      fetch.await();
+    }
+    pending.clear();
+    slices.forEach(client::cleanup);
+  }
+
+  private void fetchAhead() {
+    while (pending.size() < maxPages && !idle.isEmpty()) {
+      fetch(idle.poll());
+    }
+  }
+
+  private void fetch(OpenSearchScrollRequest slice) {
+    SliceFetch fetch = new SliceFetch(slice,
+        () -> closed ? emptyResponse() : client.search(slice));
+    pending.add(fetch);
+    try {
+      client.execute(fetch);
+    } catch (RejectedExecutionException e) {
+      // The fetch is run by the caller once its page is needed.
+    }
+  }
+
+  /**
+   * Take the first completed fetch, or the oldest fetch otherwise.
+   */
+  private SliceFetch takeCompleted() {
+    Iterator<SliceFetch> it = pending.iterator();
+    while (it.hasNext()) {
+      SliceFetch fetch = it.next();
+      if (fetch.isDone()) {
+        it.remove();
+        return fetch;
+      }
+    }
+    return pending.poll();
+  }
+
+  private OpenSearchResponse emptyResponse() {
+    return new OpenSearchResponse(SearchHits.empty(), slices.get(0).getExprValueFactory());
+  }
+
+  /**
+   * Fetch of the next page of a slice.
+   */
+  private static class SliceFetch extends PageFetch {
+    private final OpenSearchScrollRequest slice;
+
+    SliceFetch(OpenSearchScrollRequest slice, Callable<OpenSearchResponse> search) {
+      super(search);
+      this.slice = slice;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetch of a page of scroll search, which is run by the worker thread or by the caller if it is
+ * not started yet when the page is needed.
+ */
+class PageFetch extends FutureTask<OpenSearchResponse> {
+
+  PageFetch(Callable<OpenSearchResponse> search) {
+    super(search);
+  }
+
+  /**
+   * Run the fetch if it is not started yet, and wait for the page.
+   *
+   * @return page fetched
+   */
+  OpenSearchResponse response() {
+    run();
+    try {
+      return get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while fetching page of scroll", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to fetch page of scroll", e.getCause());
+    }
+  }
+
+  /**
+   * Run the fetch if it is not started yet, otherwise wait for it to finish, so that its scroll
+   * id is cleaned up. The failure is ignored.
+   */
+  void await() {
+    run();
+    try {
+      get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // The failure doesn't matter once the scroll is closed.
+    }
+  }
+}
@@ -7,6 +7,7 @@
 package org.opensearch.sql.opensearch.storage.script;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -32,6 +33,11 @@ public class ExpressionScriptEngine implements ScriptEngine {
    */
   public static final String EXPRESSION_LANG_NAME = "opensearch_query_expression";
 
+  /**
+   * Max number of deserialized expressions cached.
+   */
+  private static final int MAX_CACHED_EXPRESSIONS = 100;
+
   /**
    * All supported script contexts and function to create factory from expression.
    */
@@ -46,6 +52,17 @@ public class ExpressionScriptEngine implements ScriptEngine {
    */
   private final ExpressionSerializer serializer;
 
+  /**
+   * LRU cache of the deserialized expressions by script code, so the same query sent repeatedly
+   * skips the deserialization. Scripts may be compiled concurrently, so the access is synchronized.
+   */
+  private final Map<String, Expression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Expression> eldest) {
+      return size() > MAX_CACHED_EXPRESSIONS;
+    }
+  };
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -61,7 +78,7 @@ public class ExpressionScriptEngine implements ScriptEngine {
      * The "code" is actually a serialized expression tree by our serializer.
      * Therefore the compilation here is simply to deserialize the expression tree.
      */
-    Expression expression = serializer.deserialize(scriptCode);
+    Expression expression = deserialize(scriptCode);
 
     if (CONTEXTS.containsKey(context)) {
       return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
@@ -75,4 +92,18 @@ public class ExpressionScriptEngine implements ScriptEngine {
     return CONTEXTS.keySet();
   }
 
+  private Expression deserialize(String scriptCode) {
+    synchronized (expressions) {
+      Expression expression = expressions.get(scriptCode);
+      if (expression != null) {
+        return expression;
+      }
+    }
+    Expression expression = serializer.deserialize(scriptCode);
+    synchronized (expressions) {
+      expressions.put(scriptCode, expression);
+    }
+    return expression;
+  }
+
 }
@@ -46,7 +46,8 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBuilder, Object> {
 
   /**
-   * How many composite buckets should be returned.
+   * How many composite buckets should be returned in a page by default. The composite
+   * aggregation is paginated by its after key.
    */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
@@ -28,24 +28,32 @@ public class ExpressionAggregationScript extends AggregationScript {
    */
   private final ExpressionScript expressionScript;
 
+  /**
+   * Execution on the documents of the segment.
+   */
+  @EqualsAndHashCode.Exclude
+  private final ExpressionScript.Execution execution;
+
   /**
    * Constructor of ExpressionAggregationScript.
    */
   public ExpressionAggregationScript(
-      Expression expression,
+      ExpressionScript expressionScript,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
+    this.execution = expressionScript.newExecution(
+        this::getDoc, ExpressionAggregationScript::evaluateExpression);
   }
 
   @Override
   public Object execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).value();
+    return execution.execute().value();
   }
 
-  private ExprValue evaluateExpression(Expression expression, Environment<Expression,
+  private static ExprValue evaluateExpression(Expression expression, Environment<Expression,
                                        ExprValue> valueEnv) {
     ExprValue result = expression.valueOf(valueEnv);
 
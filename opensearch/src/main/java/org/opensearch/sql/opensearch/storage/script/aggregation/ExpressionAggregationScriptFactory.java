@@ -11,6 +11,7 @@ import lombok.EqualsAndHashCode;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Aggregation Expression script factory that generates leaf factory.
@@ -18,10 +19,13 @@ import org.opensearch.sql.expression.Expression;
 @EqualsAndHashCode
 public class ExpressionAggregationScriptFactory implements AggregationScript.Factory {
 
-  private final Expression expression;
+  /**
+   * Expression script shared by the scripts of all the segments.
+   */
+  private final ExpressionScript expressionScript;
 
   public ExpressionAggregationScriptFactory(Expression expression) {
-    this.expression = expression;
+    this.expressionScript = new ExpressionScript(expression);
   }
 
   @Override
@@ -32,6 +36,6 @@ public class ExpressionAggregationScriptFactory implements AggregationScript.Fac
 
   @Override
   public AggregationScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionAggregationScriptLeafFactory(expression, params, lookup);
+    return new ExpressionAggregationScriptLeafFactory(expressionScript, params, lookup);
   }
 }
@@ -7,8 +7,12 @@
 package org.opensearch.sql.opensearch.storage.script.core;
 
 import static java.util.stream.Collectors.toMap;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -18,9 +22,17 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
@@ -34,6 +46,9 @@ import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
 /**
  * Expression script executor that executes the expression on each document
  * and determine if the document is supposed to be filtered out or not.
+ *
+ * <p>The expression is analyzed once, and the instance is shared by the scripts of all the
+ * segments. The state of executing on the documents of a segment is kept by {@link Execution}.</p>
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -53,37 +68,104 @@ public class ExpressionScript {
    * Reference Fields.
    */
   @EqualsAndHashCode.Exclude
-  private final Set<ReferenceExpression> fields;
+  private final ReferenceExpression[] fields;
+
+  /**
+   * Doc value name of each reference field.
+   */
+  @EqualsAndHashCode.Exclude
+  private final String[] docValueNames;
+
+  /**
+   * Reader of the doc value of each reference field, resolved by the field type once.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Function<ScriptDocValues<?>, ExprValue>[] docValueReaders;
 
   /**
    * Expression constructor.
    */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
-    this.fields = AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
-        extractFields(expression));
+    Set<ReferenceExpression> fieldSet =
+        AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
+            extractFields(expression));
+    this.fields = fieldSet.toArray(new ReferenceExpression[0]);
+    this.docValueNames = new String[fields.length];
+    this.docValueReaders = newDocValueReaders(fields.length);
+    for (int i = 0; i < fields.length; i++) {
+      docValueNames[i] = getDocValueName(fields[i]);
+      docValueReaders[i] = getDocValueReader(fields[i]);
+    }
     this.valueFactory =
         AccessController.doPrivileged(
-            (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+            (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fieldSet));
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Create the execution on the documents of a segment.
    *
-   * @param docProvider doc provider.
+   * @param docProvider doc provider of the segment.
    * @param evaluator   evaluator
-   * @return expr value
+   * @return execution
    */
-  public ExprValue execute(Supplier<Map<String, ScriptDocValues<?>>> docProvider,
-                           BiFunction<Expression,
-                               Environment<Expression,
-                                   ExprValue>, ExprValue> evaluator) {
-    return AccessController.doPrivileged((PrivilegedAction<ExprValue>) () -> {
-      Environment<Expression, ExprValue> valueEnv =
-          buildValueEnv(fields, valueFactory, docProvider);
-      ExprValue result = evaluator.apply(expression, valueEnv);
-      return result;
-    });
+  public Execution newExecution(Supplier<Map<String, ScriptDocValues<?>>> docProvider,
+                                BiFunction<Expression,
+                                    Environment<Expression,
+                                        ExprValue>, ExprValue> evaluator) {
+    return new Execution(docProvider, evaluator);
+  }
+
+  /**
+   * Execution of the expression on the documents of a segment. The value environment is reused
+   * across the documents, so the execution must be confined to the thread of the segment.
+   */
+  public class Execution
+      implements PrivilegedAction<ExprValue>, Environment<Expression, ExprValue> {
+
+    private final Supplier<Map<String, ScriptDocValues<?>>> docProvider;
+
+    private final BiFunction<Expression, Environment<Expression, ExprValue>, ExprValue> evaluator;
+
+    /**
+     * Value of the reference fields on the current document.
+     */
+    private final Map<Expression, ExprValue> valueEnv = new HashMap<>();
+
+    private Execution(Supplier<Map<String, ScriptDocValues<?>>> docProvider,
+                      BiFunction<Expression, Environment<Expression, ExprValue>,
+                          ExprValue> evaluator) {
+      this.docProvider = docProvider;
+      this.evaluator = evaluator;
+    }
+
+    /**
+     * Evaluate on the current document of the doc provider.
+     *
+     * @return expr value
+     */
+    public ExprValue execute() {
+      return AccessController.doPrivileged(this);
+    }
+
+    @Override
+    public ExprValue run() {
+      for (int i = 0; i < fields.length; i++) {
+        ScriptDocValues<?> docValue = docProvider.get().get(docValueNames[i]);
+        if (docValue == null || docValue.isEmpty()) {
+          // No way to differentiate null and missing from doc value
+          valueEnv.put(fields[i], ExprNullValue.of());
+        } else {
+          valueEnv.put(fields[i], docValueReaders[i].apply(docValue));
+        }
+      }
+      return evaluator.apply(expression, this);
+    }
+
+    @Override
+    public ExprValue resolve(Expression var) {
+      return valueEnv.get(var);
+    }
   }
 
   private Set<ReferenceExpression> extractFields(Expression expr) {
@@ -112,33 +194,41 @@ public class ExpressionScript {
     return new OpenSearchExprValueFactory(typeEnv);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields, OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue = valueFactory.construct(fieldName, getDocValue(field, docProvider));
-      valueEnv.put(field, exprValue);
-    }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
+  @SuppressWarnings("unchecked")
+  private static Function<ScriptDocValues<?>, ExprValue>[] newDocValueReaders(int size) {
+    return new Function[size];
   }
 
-  private Object getDocValue(ReferenceExpression field,
-                             Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = getDocValueName(field);
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
-    if (docValue == null || docValue.isEmpty()) {
-      return null; // No way to differentiate null and missing from doc value
+  /**
+   * The doc value of numeric, keyword and date field is read into the value of its type directly.
+   * The long and double doc values of integer and float fields are narrowed to the field type.
+   * The doc value of other fields is constructed by the value factory.
+   */
+  private Function<ScriptDocValues<?>, ExprValue> getDocValueReader(ReferenceExpression field) {
+    ExprType type = field.type();
+    if (type == INTEGER) {
+      return docValue -> new ExprIntegerValue(((Long) docValue.get(0)).intValue());
+    } else if (type == LONG) {
+      return docValue -> new ExprLongValue((Long) docValue.get(0));
+    } else if (type == FLOAT) {
+      return docValue -> new ExprFloatValue(((Double) docValue.get(0)).floatValue());
+    } else if (type == DOUBLE) {
+      return docValue -> new ExprDoubleValue((Double) docValue.get(0));
+    } else if (type == STRING) {
+      return docValue -> new ExprStringValue((String) docValue.get(0));
+    } else if (type == TIMESTAMP) {
+      return docValue ->
+          new ExprTimestampValue(((ChronoZonedDateTime<?>) docValue.get(0)).toInstant());
     }
+    return docValue -> valueFactory.construct(field.getAttr(), getDocValue(docValue));
+  }
 
+  private Object getDocValue(ScriptDocValues<?> docValue) {
     Object value = docValue.get(0);
     if (value instanceof ChronoZonedDateTime) {
       return ((ChronoZonedDateTime<?>) value).toInstant();
     }
-    return castNumberToFieldType(value, field.type());
+    return value;
   }
 
   /**
@@ -149,23 +239,4 @@ public class ExpressionScript {
     String fieldName = field.getAttr();
     return ScriptUtils.convertTextToKeyword(fieldName, field.type());
   }
-
-  /**
-   * DocValue only support long and double so cast to integer and float if needed.
-   * The doc value must be Long and Double for expr type Long/Integer and Double/Float respectively.
-   * Otherwise there must be bugs in our engine that causes the mismatch.
-   */
-  private Object castNumberToFieldType(Object value, ExprType type) {
-    if (value == null) {
-      return value;
-    }
-
-    if (type == INTEGER) {
-      return ((Long) value).intValue();
-    } else if (type == FLOAT) {
-      return ((Double) value).floatValue();
-    } else {
-      return value;
-    }
-  }
 }
@@ -30,20 +30,28 @@ class ExpressionFilterScript extends FilterScript {
    */
   private final ExpressionScript expressionScript;
 
-  public ExpressionFilterScript(Expression expression,
+  /**
+   * Execution on the documents of the segment.
+   */
+  @EqualsAndHashCode.Exclude
+  private final ExpressionScript.Execution execution;
+
+  public ExpressionFilterScript(ExpressionScript expressionScript,
                                 SearchLookup lookup,
                                 LeafReaderContext context,
                                 Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
+    this.execution =
+        expressionScript.newExecution(this::getDoc, ExpressionFilterScript::evaluateExpression);
   }
 
   @Override
   public boolean execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
+    return execution.execute().booleanValue();
   }
 
-  private ExprValue evaluateExpression(Expression expression,
+  private static ExprValue evaluateExpression(Expression expression,
                                        Environment<Expression, ExprValue> valueEnv) {
     ExprValue result = expression.valueOf(valueEnv);
     if (result.isNull()) {
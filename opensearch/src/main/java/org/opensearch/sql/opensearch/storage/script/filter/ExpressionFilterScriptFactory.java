@@ -11,6 +11,8 @@ import lombok.EqualsAndHashCode;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.PredicateCompiler;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Expression script factory that generates leaf factory.
@@ -19,12 +21,13 @@ import org.opensearch.sql.expression.Expression;
 public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
   /**
-   * Expression to execute.
+   * Expression script shared by the scripts of all the segments. The filter expression is
+   * compiled by {@link PredicateCompiler}.
    */
-  private final Expression expression;
+  private final ExpressionScript expressionScript;
 
   public ExpressionFilterScriptFactory(Expression expression) {
-    this.expression = expression;
+    this.expressionScript = new ExpressionScript(PredicateCompiler.compile(expression));
   }
 
   @Override
@@ -35,7 +38,7 @@ public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
   @Override
   public FilterScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionFilterScriptLeafFactory(expression, params, lookup);
+    return new ExpressionFilterScriptLeafFactory(expressionScript, params, lookup);
   }
 
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+/**
+ * Compact binary codec of the expression tree made of literals, references and built-in
+ * functions. A function is encoded as its name and arguments, and resolved again by
+ * {@link BuiltinFunctionRepository} when decoded.
+ *
+ * <p>The first byte is the format version, which never collides with the magic number of the JDK
+ * serialization stream. An expression is not encoded if any node of it is of another kind, or is
+ * a function that depends on {@link FunctionProperties} or can't be resolved to the same
+ * implementation again.</p>
+ */
+@RequiredArgsConstructor
+class CompactExpressionCodec {
+
+  /**
+   * Version of the format, written as the first byte.
+   */
+  static final byte VERSION = 1;
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte LITERAL = 2;
+  private static final byte REFERENCE = 3;
+  private static final byte FUNCTION = 4;
+
+  private static final byte CORE_TYPE = 0;
+  private static final byte OPENSEARCH_TYPE = 1;
+
+  private final BuiltinFunctionRepository repository;
+
+  /**
+   * Encode the expression.
+   *
+   * @param expr expression
+   * @return encoded bytes, or null if the expression is not supported by the codec
+   */
+  byte[] encode(Expression expr) {
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      DataOutputStream dataOutput = new DataOutputStream(output);
+      dataOutput.writeByte(VERSION);
+      if (!writeExpression(dataOutput, expr)) {
+        return null;
+      }
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (IOException e) {
+      // String too long to be written in modified UTF-8
+      return null;
+    }
+  }
+
+  /**
+   * Decode the expression.
+   *
+   * @param bytes encoded bytes
+   * @return expression decoded
+   */
+  Expression decode(byte[] bytes) throws IOException {
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+    byte version = input.readByte();
+    if (version != VERSION) {
+      throw new IllegalStateException("Unsupported version of expression code: " + version);
+    }
+    return readExpression(input);
+  }
+
+  private boolean writeExpression(DataOutputStream output, Expression expr) throws IOException {
+    if (expr instanceof LiteralExpression) {
+      return writeLiteral(output, expr.valueOf(null));
+    } else if (expr instanceof ReferenceExpression) {
+      ReferenceExpression ref = (ReferenceExpression) expr;
+      output.writeByte(REFERENCE);
+      output.writeUTF(ref.getAttr());
+      output.writeInt(ref.getPaths().size());
+      for (String path : ref.getPaths()) {
+        output.writeUTF(path);
+      }
+      return writeType(output, ref.type());
+    } else if (expr instanceof FunctionExpression && isResolvable((FunctionExpression) expr)) {
+      FunctionExpression func = (FunctionExpression) expr;
+      output.writeByte(FUNCTION);
+      output.writeUTF(func.getFunctionName().getFunctionName());
+      output.writeInt(func.getArguments().size());
+      for (Expression arg : func.getArguments()) {
+        if (!writeExpression(output, arg)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private boolean writeLiteral(DataOutputStream output, ExprValue value) throws IOException {
+    if (value.isNull()) {
+      output.writeByte(NULL);
+      return true;
+    } else if (value.isMissing()) {
+      output.writeByte(MISSING);
+      return true;
+    } else if (!(value.type() instanceof ExprCoreType)) {
+      return false;
+    }
+
+    ExprCoreType type = (ExprCoreType) value.type();
+    output.writeByte(LITERAL);
+    output.writeUTF(type.name());
+    switch (type) {
+      case BOOLEAN:
+        output.writeBoolean(value.booleanValue());
+        return true;
+      case BYTE:
+        output.writeByte(value.byteValue());
+        return true;
+      case SHORT:
+        output.writeShort(value.shortValue());
+        return true;
+      case INTEGER:
+        output.writeInt(value.integerValue());
+        return true;
+      case LONG:
+        output.writeLong(value.longValue());
+        return true;
+      case FLOAT:
+        output.writeFloat(value.floatValue());
+        return true;
+      case DOUBLE:
+        output.writeDouble(value.doubleValue());
+        return true;
+      case STRING:
+        output.writeUTF(value.stringValue());
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private boolean writeType(DataOutputStream output, ExprType type) throws IOException {
+    if (type instanceof ExprCoreType) {
+      output.writeByte(CORE_TYPE);
+      output.writeUTF(((ExprCoreType) type).name());
+      return true;
+    } else if (type instanceof OpenSearchDataType) {
+      output.writeByte(OPENSEARCH_TYPE);
+      output.writeUTF(((OpenSearchDataType) type).name());
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * The function can be encoded only if the function resolved by its name and arguments is the
+   * same implementation. The function that captures {@link FunctionProperties}, e.g. NOW(), is
+   * excluded because the properties of the query are not known when it's decoded.
+   */
+  private boolean isResolvable(FunctionExpression func) {
+    for (Field field : func.getClass().getDeclaredFields()) {
+      if (FunctionProperties.class.isAssignableFrom(field.getType())) {
+        return false;
+      }
+    }
+    try {
+      Expression resolved = compile(func.getFunctionName(), func.getArguments());
+      return resolved.getClass() == func.getClass();
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private Expression readExpression(DataInputStream input) throws IOException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case NULL:
+        return new LiteralExpression(ExprValueUtils.nullValue());
+      case MISSING:
+        return new LiteralExpression(ExprValueUtils.missingValue());
+      case LITERAL:
+        return new LiteralExpression(readValue(input));
+      case REFERENCE:
+        String attr = input.readUTF();
+        int pathCount = input.readInt();
+        List<String> paths = new ArrayList<>(pathCount);
+        for (int i = 0; i < pathCount; i++) {
+          paths.add(input.readUTF());
+        }
+        return new ReferenceExpression(attr, paths, readType(input));
+      case FUNCTION:
+        FunctionName name = new FunctionName(input.readUTF());
+        int argCount = input.readInt();
+        List<Expression> args = new ArrayList<>(argCount);
+        for (int i = 0; i < argCount; i++) {
+          args.add(readExpression(input));
+        }
+        return compile(name, args);
+      default:
+        throw new IllegalStateException("Unknown expression tag: " + tag);
+    }
+  }
+
+  private ExprValue readValue(DataInputStream input) throws IOException {
+    ExprCoreType type = ExprCoreType.valueOf(input.readUTF());
+    switch (type) {
+      case BOOLEAN:
+        return ExprValueUtils.booleanValue(input.readBoolean());
+      case BYTE:
+        return ExprValueUtils.byteValue(input.readByte());
+      case SHORT:
+        return ExprValueUtils.shortValue(input.readShort());
+      case INTEGER:
+        return ExprValueUtils.integerValue(input.readInt());
+      case LONG:
+        return ExprValueUtils.longValue(input.readLong());
+      case FLOAT:
+        return ExprValueUtils.floatValue(input.readFloat());
+      case DOUBLE:
+        return ExprValueUtils.doubleValue(input.readDouble());
+      case STRING:
+        return ExprValueUtils.stringValue(input.readUTF());
+      default:
+        throw new IllegalStateException("Unsupported literal type: " + type);
+    }
+  }
+
+  private ExprType readType(DataInputStream input) throws IOException {
+    byte tag = input.readByte();
+    String name = input.readUTF();
+    return (tag == CORE_TYPE) ? ExprCoreType.valueOf(name) : OpenSearchDataType.valueOf(name);
+  }
+
+  private Expression compile(FunctionName name, List<Expression> args) {
+    return (Expression) repository.compile(FunctionProperties.None, name, args);
+  }
+}
@@ -13,14 +13,35 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Base64;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 
 /**
- * Default serializer that (de-)serialize expressions by JDK serialization.
+ * Default serializer that (de-)serialize expressions by {@link CompactExpressionCodec}, or by JDK
+ * serialization if the expression is not supported by the codec. The format is told by the first
+ * byte of the code when deserialized.
  */
 public class DefaultExpressionSerializer implements ExpressionSerializer {
 
+  private final CompactExpressionCodec codec;
+
+  public DefaultExpressionSerializer() {
+    this(BuiltinFunctionRepository.getInstance());
+  }
+
+  /**
+   * Constructor of the serializer which resolves functions by the given repository.
+   */
+  public DefaultExpressionSerializer(BuiltinFunctionRepository repository) {
+    this.codec = new CompactExpressionCodec(repository);
+  }
+
   @Override
   public String serialize(Expression expr) {
+    byte[] bytes = codec.encode(expr);
+    if (bytes != null) {
+      return Base64.getEncoder().encodeToString(bytes);
+    }
+
     try {
       ByteArrayOutputStream output = new ByteArrayOutputStream();
       ObjectOutputStream objectOutput = new ObjectOutputStream(output);
@@ -35,7 +56,11 @@ public class DefaultExpressionSerializer implements ExpressionSerializer {
   @Override
   public Expression deserialize(String code) {
     try {
-      ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(code));
+      byte[] bytes = Base64.getDecoder().decode(code);
+      if (bytes.length > 0 && bytes[0] == CompactExpressionCodec.VERSION) {
+        return codec.decode(bytes);
+      }
+      ByteArrayInputStream input = new ByteArrayInputStream(bytes);
       ObjectInputStream objectInput = new ObjectInputStream(input);
       return (Expression) objectInput.readObject();
     } catch (Exception e) {
@@ -24,6 +24,7 @@ import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
@@ -52,6 +53,8 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -240,6 +243,24 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void getIndexShardCounts() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientSettings(indexName, indexMetadata);
+
+    assertEquals(ImmutableMap.of(indexName, 5), client.getIndexShardCounts(indexName));
+  }
+
+  @Test
+  void getIndexShardCountsWithIOException() {
+    String indexName = "test";
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexShardCounts(indexName));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void testAllFieldsPredicate() {
@@ -258,8 +279,8 @@ class OpenSearchNodeClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any())).thenReturn(exprTupleValue);
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\", 1}"));
+    when(factory.construct(any(BytesReference.class))).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -292,6 +313,18 @@ class OpenSearchNodeClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void execute() {
+    when(nodeClient.threadPool().executor(any()))
+        .thenReturn(MoreExecutors.newDirectExecutorService());
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.execute(
+        () -> {
+          isRun.set(true);
+        });
+    assertTrue(isRun.get());
+  }
+
   @Test
   void cleanup() {
     ClearScrollRequestBuilder requestBuilder = mock(ClearScrollRequestBuilder.class);
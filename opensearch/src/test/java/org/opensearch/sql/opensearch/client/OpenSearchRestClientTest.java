@@ -46,6 +46,8 @@ import org.opensearch.client.indices.GetMappingsRequest;
 import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.DeprecationHandler;
@@ -233,6 +235,28 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows("test"));
   }
 
+  @Test
+  void getIndexShardCounts() throws IOException {
+    String indexName = "test";
+    GetSettingsResponse response = mock(GetSettingsResponse.class);
+    Settings settings = Settings.builder()
+        .put("index.number_of_shards", 3)
+        .build();
+    ImmutableOpenMap<String, Settings> indexToSettings = mockSettings(indexName, settings);
+    when(response.getIndexToSettings()).thenReturn(indexToSettings);
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(response);
+
+    assertEquals(ImmutableMap.of(indexName, 3), client.getIndexShardCounts(indexName));
+  }
+
+  @Test
+  void getIndexShardCountsWithIOException() throws IOException {
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.getIndexShardCounts("test"));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
@@ -245,8 +269,8 @@ class OpenSearchRestClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any())).thenReturn(exprTupleValue);
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\", 1}"));
+    when(factory.construct(any(BytesReference.class))).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -310,6 +334,16 @@ class OpenSearchRestClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void execute() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.execute(
+        () -> {
+          isRun.set(true);
+        });
+    assertTrue(isRun.get());
+  }
+
   @Test
   void cleanup() throws IOException {
     OpenSearchScrollRequest request = new OpenSearchScrollRequest("test", factory);
@@ -40,12 +40,17 @@ import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEA
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
@@ -354,6 +359,40 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructFromSourceBytes() {
+    String source = "{\"intV\":1,\"stringV\":\"a\",\"structV\":{\"id\":2,\"state\":\"WA\"},"
+        + "\"arrayV\":[{\"info\":\"zz\"}]}";
+    assertEquals(exprValueFactory.construct(source),
+        exprValueFactory.construct(new BytesArray(source)));
+    assertEquals(exprValueFactory.construct(source),
+        exprValueFactory.construct(CompositeBytesReference.of(
+            new BytesArray(source.substring(0, 10)), new BytesArray(source.substring(10)))));
+  }
+
+  @Test
+  public void constructFromSmileSourceBytes() throws IOException {
+    BytesReference source = BytesReference.bytes(
+        XContentFactory.smileBuilder().startObject().field("intV", 1).endObject());
+    assertEquals(integerValue(1), exprValueFactory.construct(source).tupleValue().get("intV"));
+  }
+
+  @Test
+  public void constructFromInvalidSourceBytesThrowException() {
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class,
+            () -> exprValueFactory.construct(new BytesArray("{\"invalid_json:1}")));
+    assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
+  }
+
+  @Test
+  public void skipValueOfFieldNotInMapping() {
+    Map<String, ExprValue> tuple =
+        tupleValue("{\"not_exist\":{\"a\":[1,{\"b\":2}]},\"intV\":1}");
+    assertEquals(nullValue(), tuple.get("not_exist"));
+    assertEquals(integerValue(1), tuple.get("intV"));
+  }
+
   @Test
   public void noTypeFoundForMapping() {
     assertEquals(nullValue(), tupleValue("{\"not_exist\":[]}").get("not_exist"));
@@ -8,9 +8,12 @@ package org.opensearch.sql.opensearch.executor.protector;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -19,20 +22,28 @@ import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.takeOrdered;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.node.NodeClient;
@@ -42,6 +53,7 @@ import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
@@ -61,6 +73,8 @@ import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
+import org.opensearch.sql.storage.TableScanOperator;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchExecutionProtectorTest {
@@ -198,6 +212,26 @@ class OpenSearchExecutionProtectorTest {
                 windowDefinition)));
   }
 
+  @Test
+  public void testProtectTakeOrderedOperator() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(
+            takeOrdered(
+                values(emptyList()),
+                10,
+                5,
+                sortItem)),
+        executionProtector.protect(
+            takeOrdered(
+                values(emptyList()),
+                10,
+                5,
+                sortItem)));
+  }
+
   @Test
   public void testProtectWindowOperatorInput() {
     NamedExpression avg = named(mock(AggregateWindowFunction.class));
@@ -314,7 +348,119 @@ class OpenSearchExecutionProtectorTest {
             executionProtector.visitML(mlOperator, null));
   }
 
+  @Test
+  public void testNotProtectScanOfSpillingSort(@TempDir Path directory) {
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor,
+        new SpillConfig(directory, Integer.MAX_VALUE, resourceMonitor), null);
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("id", INTEGER));
+    Expression filterExpr = literal(ExprBooleanValue.of(true));
+    TestScan scan = new TestScan(0);
+
+    assertEquals(
+        sort(filter(scan, filterExpr), sortItem),
+        executionProtector.protect(sort(filter(scan, filterExpr), sortItem)));
+    assertEquals(
+        sort(PhysicalPlanDSL.dedupe(resourceMonitor(scan), ref("id", INTEGER)), sortItem),
+        executionProtector.protect(
+            sort(PhysicalPlanDSL.dedupe(scan, ref("id", INTEGER)), sortItem)));
+  }
+
+  @Test
+  public void testSpillSortUnderMemoryPressure(@TempDir Path directory) throws IOException {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor,
+        new SpillConfig(directory, Integer.MAX_VALUE, resourceMonitor), null);
+    int size = SpillConfig.MIN_ROWS_TO_SPILL * 2;
+
+    PhysicalPlan plan = executionProtector.protect(
+        sort(
+            filter(new TestScan(size), literal(ExprBooleanValue.of(true))),
+            ImmutablePair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("id", INTEGER))));
+    plan.open();
+    assertTrue(countFiles(directory) > 0);
+    for (int i = size - 1; i >= 0; i--) {
+      assertEquals(tupleValue(ImmutableMap.of("id", i)), plan.next());
+    }
+    assertFalse(plan.hasNext());
+    plan.close();
+    assertEquals(0, countFiles(directory));
+  }
+
+  @Test
+  public void testNotProtectScanOfSpillingAggregation(@TempDir Path directory) {
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor, null,
+        new SpillConfig(directory, Integer.MAX_VALUE, resourceMonitor));
+    List<NamedAggregator> aggregators =
+        Arrays.asList(named("count", DSL.count(ref("id", INTEGER))));
+    List<NamedExpression> groupByExprs = Arrays.asList(named("id", ref("id", INTEGER)));
+    TestScan scan = new TestScan(0);
+
+    assertEquals(
+        PhysicalPlanDSL.agg(scan, aggregators, groupByExprs),
+        executionProtector.protect(PhysicalPlanDSL.agg(scan, aggregators, groupByExprs)));
+    assertEquals(
+        PhysicalPlanDSL.agg(resourceMonitor(scan), aggregators, emptyList()),
+        executionProtector.protect(PhysicalPlanDSL.agg(scan, aggregators, emptyList())));
+  }
+
+  @Test
+  public void testSpillAggregationUnderMemoryPressure(@TempDir Path directory)
+      throws IOException {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor, null,
+        new SpillConfig(directory, Integer.MAX_VALUE, resourceMonitor));
+    int size = SpillConfig.MIN_ROWS_TO_SPILL * 2;
+
+    PhysicalPlan plan = executionProtector.protect(
+        PhysicalPlanDSL.agg(
+            filter(new TestScan(size), literal(ExprBooleanValue.of(true))),
+            Arrays.asList(named("count", DSL.count(ref("id", INTEGER)))),
+            Arrays.asList(named("id", ref("id", INTEGER)))));
+    plan.open();
+    assertTrue(countFiles(directory) > 0);
+    for (int i = 0; i < size; i++) {
+      assertEquals(tupleValue(ImmutableMap.of("id", i, "count", 1)), plan.next());
+    }
+    assertFalse(plan.hasNext());
+    plan.close();
+    assertEquals(0, countFiles(directory));
+  }
+
   PhysicalPlan resourceMonitor(PhysicalPlan input) {
     return new ResourceMonitorPlan(input, resourceMonitor);
   }
+
+  private long countFiles(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  /**
+   * Table scan of the rows with id from 0 to size - 1.
+   */
+  @EqualsAndHashCode(callSuper = false)
+  @RequiredArgsConstructor
+  private static class TestScan extends TableScanOperator {
+    private final int size;
+
+    @EqualsAndHashCode.Exclude
+    private int count = 0;
+
+    @Override
+    public String explain() {
+      return "TestScan";
+    }
+
+    @Override
+    public boolean hasNext() {
+      return count < size;
+    }
+
+    @Override
+    public ExprValue next() {
+      return tupleValue(ImmutableMap.of("id", count++));
+    }
+  }
 }
@@ -10,11 +10,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
@@ -27,6 +33,11 @@ import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -71,6 +82,60 @@ public class OpenSearchQueryRequestTest {
     verify(searchAction, times(1)).apply(any());
   }
 
+  @Test
+  void search_composite_aggregation_by_page() {
+    CompositeAggregationBuilder compositeBuilder = compositeBuilder();
+    OpenSearchQueryRequest request = aggregationRequest(compositeBuilder);
+    Aggregations firstPage = compositeAggregations(2, ImmutableMap.of("name", "b"));
+    Aggregations lastPage = compositeAggregations(1, ImmutableMap.of("name", "c"));
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    when(searchResponse.getAggregations()).thenReturn(firstPage, lastPage);
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertEquals(compositeBuilder().aggregateAfter(ImmutableMap.of("name", "b")),
+        compositeBuilder);
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertEquals(compositeBuilder().aggregateAfter(ImmutableMap.of("name", "b")),
+        compositeBuilder);
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void search_composite_aggregation_without_after_key() {
+    OpenSearchQueryRequest request = aggregationRequest(compositeBuilder());
+    Aggregations lastPage = compositeAggregations(0, null);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getAggregations()).thenReturn(lastPage);
+
+    request.search(searchAction, scrollAction);
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(1)).apply(any());
+  }
+
+  @Test
+  void search_aggregation_without_composite() {
+    OpenSearchQueryRequest request = aggregationRequest(compositeBuilder());
+    request.getSourceBuilder().aggregation(AggregationBuilders.avg("avg").field("age"));
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getAggregations()).thenReturn(new Aggregations(List.of()));
+
+    request.search(searchAction, scrollAction);
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(1)).apply(any());
+  }
+
+  @Test
+  void search_aggregation_response_without_aggregation_request() {
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getAggregations()).thenReturn(new Aggregations(List.of()));
+
+    request.search(searchAction, scrollAction);
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(1)).apply(any());
+  }
+
   @Test
   void clean() {
     request.clean(cleanAction);
@@ -91,4 +156,26 @@ public class OpenSearchQueryRequestTest {
                 .query(QueryBuilders.termQuery("name", "John"))),
         request.searchRequest());
   }
+
+  private CompositeAggregationBuilder compositeBuilder() {
+    return AggregationBuilders.composite("composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")))
+        .size(2);
+  }
+
+  private OpenSearchQueryRequest aggregationRequest(CompositeAggregationBuilder compositeBuilder) {
+    return new OpenSearchQueryRequest(new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder().size(0).aggregation(compositeBuilder), factory);
+  }
+
+  private Aggregations compositeAggregations(int bucketCount, Map<String, Object> afterKey) {
+    CompositeAggregation composite = mock(CompositeAggregation.class);
+    when(composite.getName()).thenReturn("composite_buckets");
+    if (afterKey != null) {
+      doReturn(Collections.nCopies(bucketCount, mock(CompositeAggregation.Bucket.class)))
+          .when(composite).getBuckets();
+    }
+    when(composite.afterKey()).thenReturn(afterKey);
+    return new Aggregations(List.of(composite));
+  }
 }
@@ -39,6 +39,7 @@ import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
+import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 
@@ -118,6 +119,7 @@ public class OpenSearchRequestBuilderTest {
 
   @Test
   void testPushDownAggregation() {
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_BUCKET_SIZE)).thenReturn(500);
     AggregationBuilder aggBuilder = AggregationBuilders.composite(
         "composite_buckets",
         Collections.singletonList(new TermsValuesSourceBuilder("longA")));
@@ -131,7 +133,28 @@ public class OpenSearchRequestBuilderTest {
             .from(DEFAULT_OFFSET)
             .size(0)
             .timeout(DEFAULT_QUERY_TIMEOUT)
-            .aggregation(aggBuilder),
+            .aggregation(AggregationBuilders.composite(
+                "composite_buckets",
+                Collections.singletonList(new TermsValuesSourceBuilder("longA")))
+                .size(500)),
+        requestBuilder.getSourceBuilder()
+    );
+    verify(exprValueFactory).setParser(responseParser);
+  }
+
+  @Test
+  void testPushDownAggregationWithoutBucket() {
+    AggregationBuilder aggBuilder = AggregationBuilders.avg("AVG(intA)").field("intA");
+    OpenSearchAggregationResponseParser responseParser =
+        new NoBucketAggregationParser(new SingleValueParser("AVG(intA)"));
+    requestBuilder.pushDownAggregation(Pair.of(List.of(aggBuilder), responseParser));
+
+    assertEquals(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(0)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .aggregation(AggregationBuilders.avg("AVG(intA)").field("intA")),
         requestBuilder.getSourceBuilder()
     );
     verify(exprValueFactory).setParser(responseParser);
@@ -8,7 +8,11 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +22,8 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,4 +64,44 @@ class OpenSearchScrollRequestTest {
             .scrollId("scroll123"),
         request.scrollRequest());
   }
+
+  @Test
+  void isSliceable() {
+    assertTrue(request.isSliceable());
+
+    request.getSourceBuilder().sort(SortBuilders.fieldSort(DOC_FIELD_NAME));
+    assertTrue(request.isSliceable());
+  }
+
+  @Test
+  void isNotSliceableIfSortedByField() {
+    request.getSourceBuilder().sort(SortBuilders.fieldSort("name"));
+    assertFalse(request.isSliceable());
+  }
+
+  @Test
+  void isNotSliceableWithOffset() {
+    request.getSourceBuilder().from(10);
+    assertFalse(request.isSliceable());
+  }
+
+  @Test
+  void slice() {
+    request.getSourceBuilder().query(QueryBuilders.termQuery("name", "John"));
+
+    List<OpenSearchScrollRequest> slices = request.slice(2, 5);
+    assertEquals(2, slices.size());
+    for (int id = 0; id < 2; id++) {
+      assertEquals(
+          new SearchRequest()
+              .indices("test")
+              .scroll(OpenSearchScrollRequest.DEFAULT_SCROLL_TIMEOUT)
+              .source(new SearchSourceBuilder()
+                  .query(QueryBuilders.termQuery("name", "John"))
+                  .slice(new SliceBuilder(id, 2))
+                  .size(5)),
+          slices.get(id).searchRequest());
+    }
+    assertNull(request.getSourceBuilder().slice());
+  }
 }
@@ -52,6 +52,14 @@ class OpenSearchDescribeIndexRequestTest {
     ));
   }
 
+  @Test
+  void testGetShardCount() {
+    when(client.getIndexShardCounts("index1", "index2"))
+        .thenReturn(ImmutableMap.of("index1", 5, "index2", 3));
+
+    assertEquals(8, new OpenSearchDescribeIndexRequest(client, "index1,index2").getShardCount());
+  }
+
   @Test
   void testToString() {
     assertEquals("OpenSearchDescribeIndexRequest{indexName='index'}",
@@ -39,6 +39,46 @@ class OpenSearchSettingsTest {
     assertNotNull(sizeValue);
   }
 
+  @Test
+  void getSortSpillThresholdDefaultValue() {
+    OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
+    Integer threshold = settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD);
+
+    assertEquals(1_000_000, threshold);
+  }
+
+  @Test
+  void getAggregationSpillThresholdDefaultValue() {
+    OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
+    Integer threshold = settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_SPILL_THRESHOLD);
+
+    assertEquals(100_000, threshold);
+  }
+
+  @Test
+  void getAggregationBucketSizeDefaultValue() {
+    OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
+    Integer bucketSize = settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_BUCKET_SIZE);
+
+    assertEquals(1000, bucketSize);
+  }
+
+  @Test
+  void getScrollSlicesDefaultValue() {
+    OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
+    Integer slices = settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES);
+
+    assertEquals(0, slices);
+  }
+
+  @Test
+  void getScrollPrefetchDefaultValue() {
+    OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
+    Integer prefetch = settings.getSettingValue(Settings.Key.QUERY_SCROLL_PREFETCH);
+
+    assertEquals(1, prefetch);
+  }
+
   @Test
   void pluginSettings() {
     List<Setting<?>> settings = OpenSearchSettings.pluginSettings();
@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest.IndexName;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class IndexMetadataCacheTest {
+
+  private final IndexMetadataCache cache = new IndexMetadataCache();
+
+  private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  @Mock
+  private ClusterService clusterService;
+
+  @Mock
+  private IndexNameExpressionResolver resolver;
+
+  @Mock
+  private ClusterState clusterState;
+
+  @Mock
+  private Metadata metadata;
+
+  @Mock
+  private IndexMetadata indexMetadata;
+
+  @Mock
+  private IndexMetadata emptyIndexMetadata;
+
+  @Mock
+  private MappingMetadata mappingMetadata;
+
+  @Mock
+  private ClusterChangedEvent event;
+
+  @Test
+  void load_every_time_if_not_listening_to_cluster_service() {
+    cache.getFieldTypes(new IndexName("test"), fieldTypes(INTEGER));
+    cache.getFieldTypes(new IndexName("test"), fieldTypes(INTEGER));
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  void read_cluster_state_once_until_metadata_changes() {
+    cache.setClusterService(clusterService, resolver, threadContext);
+    verify(clusterService).addListener(cache);
+    mockClusterState("test*", "test", "empty");
+    when(indexMetadata.mapping()).thenReturn(mappingMetadata);
+    when(mappingMetadata.getSourceAsMap())
+        .thenReturn(ImmutableMap.of("properties",
+            ImmutableMap.of("age", ImmutableMap.of("type", "integer"))));
+
+    Map<String, ExprType> fieldTypes =
+        cache.getFieldTypes(new IndexName("test*"), fieldTypes(STRING));
+    assertEquals(ImmutableMap.of("age", INTEGER), fieldTypes);
+    assertEquals(fieldTypes, cache.getFieldTypes(new IndexName("test*"), fieldTypes(STRING)));
+    assertThrows(UnsupportedOperationException.class, () -> fieldTypes.put("name", INTEGER));
+
+    when(event.metadataChanged()).thenReturn(false);
+    cache.clusterChanged(event);
+    cache.getFieldTypes(new IndexName("test*"), fieldTypes(STRING));
+    verify(clusterService, times(1)).state();
+
+    when(event.metadataChanged()).thenReturn(true);
+    cache.clusterChanged(event);
+    cache.getFieldTypes(new IndexName("test*"), fieldTypes(STRING));
+    verify(clusterService, times(2)).state();
+    assertEquals(0, loadCount.get());
+  }
+
+  @Test
+  void cache_min_max_result_window_by_index_name() {
+    cache.setClusterService(clusterService, resolver, threadContext);
+    mockClusterState("test*", "test", "empty");
+    when(indexMetadata.getSettings())
+        .thenReturn(Settings.builder().put("index.max_result_window", 100).build());
+    when(emptyIndexMetadata.getSettings()).thenReturn(Settings.EMPTY);
+
+    assertEquals(100, cache.getMaxResultWindow(new IndexName("test*"), () -> 200));
+    assertEquals(100, cache.getMaxResultWindow(new IndexName("test*"), () -> 200));
+    verify(clusterService, times(1)).state();
+  }
+
+  @Test
+  void bypass_cache_for_users_in_security_context() {
+    cache.setClusterService(clusterService, resolver, threadContext);
+
+    threadContext.putTransient(IndexMetadataCache.SECURITY_USER_INFO, "admin");
+    assertEquals(ImmutableMap.of("age", INTEGER, "name", STRING),
+        cache.getFieldTypes(new IndexName("test"), () -> {
+          loadCount.incrementAndGet();
+          return new HashMap<>(ImmutableMap.of("age", INTEGER, "name", STRING));
+        }));
+
+    try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+      threadContext.putTransient(IndexMetadataCache.SECURITY_USER_INFO, "user");
+      assertEquals(ImmutableMap.of("age", INTEGER),
+          cache.getFieldTypes(new IndexName("test"), fieldTypes(INTEGER)));
+    }
+    assertEquals(2, loadCount.get());
+    verify(clusterService, never()).state();
+  }
+
+  @Test
+  void value_read_before_metadata_changes_is_not_cached() {
+    cache.setClusterService(clusterService, resolver, threadContext);
+    when(clusterService.state()).thenReturn(clusterState);
+    when(event.metadataChanged()).thenReturn(true);
+    when(resolver.concreteIndexNames(
+        eq(clusterState), any(IndicesOptions.class), eq(true), eq("test")))
+        .thenAnswer(invocation -> {
+          cache.clusterChanged(event);
+          return new String[0];
+        });
+
+    cache.getFieldTypes(new IndexName("test"), fieldTypes(INTEGER));
+    cache.getFieldTypes(new IndexName("test"), fieldTypes(INTEGER));
+    verify(clusterService, times(2)).state();
+  }
+
+  private void mockClusterState(String indexName, String index, String emptyIndex) {
+    when(clusterService.state()).thenReturn(clusterState);
+    when(clusterState.metadata()).thenReturn(metadata);
+    when(resolver.concreteIndexNames(
+        eq(clusterState), any(IndicesOptions.class), eq(true), eq(indexName)))
+        .thenReturn(new String[] {index, emptyIndex});
+    when(metadata.index(index)).thenReturn(indexMetadata);
+    when(metadata.index(emptyIndex)).thenReturn(emptyIndexMetadata);
+  }
+
+  private Supplier<Map<String, ExprType>> fieldTypes(ExprType type) {
+    return () -> {
+      loadCount.incrementAndGet();
+      return new HashMap<>(ImmutableMap.of("age", type));
+    };
+  }
+}
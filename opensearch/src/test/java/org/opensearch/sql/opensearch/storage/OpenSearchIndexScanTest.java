@@ -10,7 +10,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
@@ -20,10 +23,12 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -33,6 +38,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.common.setting.Settings;
@@ -60,6 +66,8 @@ class OpenSearchIndexScanTest {
   @BeforeEach
   void setup() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES)).thenReturn(1);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_PREFETCH)).thenReturn(0);
   }
 
   @Test
@@ -122,6 +130,153 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void queryAllResultsWithPrefetchedScroll() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_PREFETCH)).thenReturn(2);
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(3)).execute(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void queryAllResultsWithSlicedScroll() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES)).thenReturn(2);
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(4)).execute(any());
+    verify(client, times(2)).cleanup(any());
+  }
+
+  @Test
+  void querySlicedScrollWithMaxSlices() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES)).thenReturn(100);
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(OpenSearchIndexScan.MAX_SCROLL_SLICES)).cleanup(any());
+  }
+
+  @Test
+  void querySlicedScrollByQuerySize() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES)).thenReturn(4);
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 4, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownLimit(5, 0);
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    ArgumentCaptor<OpenSearchRequest> requests = ArgumentCaptor.forClass(OpenSearchRequest.class);
+    verify(client, times(3)).search(requests.capture());
+    requests.getAllValues().forEach(
+        request -> assertEquals(3, request.getSourceBuilder().size()));
+    verify(client, times(2)).cleanup(any());
+  }
+
+  @Test
+  void querySlicedScrollByShardCount() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES)).thenReturn(0);
+    when(client.getIndexShardCounts("employees")).thenReturn(ImmutableMap.of("employees", 3));
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(3)).cleanup(any());
+  }
+
+  @Test
+  void queryScrollWithSingleShard() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_SLICES)).thenReturn(0);
+    when(client.getIndexShardCounts("employees")).thenReturn(ImmutableMap.of("employees", 1));
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, never()).execute(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void querySortedResultsWithScroll() {
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownSort(
+          List.of(SortBuilders.fieldSort("name").order(ASC)));
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, never()).execute(any());
+    verify(client).cleanup(any());
+  }
+
   @Test
   void querySomeResultsWithQuery() {
     mockResponse(new ExprValue[]{
@@ -174,6 +329,25 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void querySomeResultsByBatch() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT"), employee(4, "Bob", "HR")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownLimit(3, 0);
+      indexScan.open();
+
+      assertEquals(List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR")),
+          indexScan.nextBatch(5));
+      assertEquals(List.of(employee(3, "Allen", "IT")), indexScan.nextBatch(5));
+      assertEquals(List.of(), indexScan.nextBatch(5));
+    }
+    verify(client).cleanup(any());
+  }
+
   @Test
   void pushDownFilters() {
     assertThat()
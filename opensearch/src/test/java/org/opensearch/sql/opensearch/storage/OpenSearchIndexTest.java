@@ -13,6 +13,9 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -40,6 +43,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -152,6 +158,28 @@ class OpenSearchIndexTest {
     }
   }
 
+  @Test
+  void getFieldTypesAndMaxResultWindowOfUserInSecurityContext() {
+    when(client.getIndexMappings("test"))
+        .thenReturn(ImmutableMap.of("test",
+            new IndexMapping(ImmutableMap.of("name", "keyword"))));
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    ThreadContext threadContext =
+        new ThreadContext(org.opensearch.common.settings.Settings.EMPTY);
+    threadContext.putTransient(IndexMetadataCache.SECURITY_USER_INFO, "user");
+    IndexMetadataCache metadataCache = new IndexMetadataCache();
+    metadataCache.setClusterService(
+        mock(ClusterService.class), mock(IndexNameExpressionResolver.class), threadContext);
+
+    for (int i = 0; i < 2; i++) {
+      OpenSearchIndex table = new OpenSearchIndex(client, settings, indexName, metadataCache);
+      assertEquals(ImmutableMap.of("name", ExprCoreType.STRING), table.getFieldTypes());
+      assertEquals(10000, table.getMaxResultWindow());
+    }
+    verify(client, times(2)).getIndexMappings("test");
+    verify(client, times(2)).getIndexMaxResultWindows("test");
+  }
+
   @Test
   void implementRelationOperatorOnly() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchPrefetchedScrollTest {
+
+  @Mock
+  private OpenSearchClient client;
+
+  @Mock
+  private OpenSearchScrollRequest request;
+
+  @Mock
+  private OpenSearchResponse page;
+
+  @Mock
+  private OpenSearchResponse emptyPage;
+
+  @Test
+  void prefetch_pages_up_to_limit() {
+    runInline();
+    when(page.isEmpty()).thenReturn(false);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(page, page, page, emptyPage);
+
+    OpenSearchPrefetchedScroll scroll = new OpenSearchPrefetchedScroll(client, request, 2);
+    verify(client, times(2)).search(request);
+
+    assertSame(page, scroll.next());
+    verify(client, times(3)).search(request);
+
+    assertSame(page, scroll.next());
+    assertSame(page, scroll.next());
+    assertSame(emptyPage, scroll.next());
+    assertTrue(scroll.next().isEmpty());
+    scroll.close();
+
+    verify(client, times(4)).search(request);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void prefetch_page_in_background() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    doAnswer(invocation -> {
+      executor.execute(invocation.getArgument(0));
+      return null;
+    }).when(client).execute(any());
+    when(page.isEmpty()).thenReturn(false);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(page, emptyPage);
+
+    try {
+      OpenSearchPrefetchedScroll scroll = new OpenSearchPrefetchedScroll(client, request, 1);
+      assertSame(page, scroll.next());
+      assertSame(emptyPage, scroll.next());
+      scroll.close();
+    } finally {
+      executor.shutdown();
+    }
+    verify(client, times(2)).search(request);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void caller_runs_rejected_fetch() {
+    doThrow(new RejectedExecutionException()).when(client).execute(any());
+    when(page.isEmpty()).thenReturn(false);
+    when(client.search(request)).thenReturn(page);
+
+    OpenSearchPrefetchedScroll scroll = new OpenSearchPrefetchedScroll(client, request, 1);
+    assertSame(page, scroll.next());
+    scroll.close();
+
+    verify(client).search(request);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void stop_fetching_after_failure() {
+    runInline();
+    IllegalArgumentException failure = new IllegalArgumentException("failed");
+    when(client.search(request)).thenThrow(failure);
+
+    OpenSearchPrefetchedScroll scroll = new OpenSearchPrefetchedScroll(client, request, 1);
+    assertSame(failure, assertThrows(IllegalArgumentException.class, scroll::next));
+    assertTrue(scroll.next().isEmpty());
+    scroll.close();
+
+    verify(client).search(request);
+    verify(client).cleanup(request);
+  }
+
+  private void runInline() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(client).execute(any());
+  }
+}
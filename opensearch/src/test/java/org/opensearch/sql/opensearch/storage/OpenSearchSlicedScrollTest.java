@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchSlicedScrollTest {
+
+  @Mock
+  private OpenSearchClient client;
+
+  @Mock
+  private OpenSearchScrollRequest slice1;
+
+  @Mock
+  private OpenSearchScrollRequest slice2;
+
+  @Mock
+  private OpenSearchResponse page;
+
+  @Mock
+  private OpenSearchResponse emptyPage;
+
+  private final CountDownLatch started = new CountDownLatch(1);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @Test
+  void next_page_of_any_slice() {
+    runInline();
+    when(page.isEmpty()).thenReturn(false);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    when(client.search(slice1)).thenReturn(emptyPage);
+    when(client.search(slice2)).thenReturn(page, emptyPage);
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1, slice2), 2);
+    assertSame(page, scroll.next());
+    assertTrue(scroll.next().isEmpty());
+    scroll.close();
+
+    verify(client).cleanup(slice1);
+    verify(client).cleanup(slice2);
+  }
+
+  @Test
+  void fetch_slices_in_turn_within_max_pages() {
+    runInline();
+    when(page.isEmpty()).thenReturn(false);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    when(client.search(slice1)).thenReturn(page, emptyPage);
+    when(client.search(slice2)).thenReturn(page, emptyPage);
+
+    OpenSearchSlicedScroll scroll =
+        new OpenSearchSlicedScroll(client, List.of(slice1, slice2), 1);
+    verify(client, never()).search(slice2);
+    assertSame(page, scroll.next());
+    verify(client).search(slice2);
+    assertSame(page, scroll.next());
+    assertTrue(scroll.next().isEmpty());
+    scroll.close();
+
+    verify(client, times(2)).search(slice1);
+    verify(client, times(2)).search(slice2);
+  }
+
+  @Test
+  void caller_runs_rejected_fetch() {
+    doThrow(new RejectedExecutionException()).when(client).execute(any());
+    when(page.isEmpty()).thenReturn(false);
+    when(client.search(slice1)).thenReturn(page);
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1, slice2), 2);
+    assertSame(page, scroll.next());
+    scroll.close();
+
+    verify(client, never()).search(slice2);
+    verify(client).cleanup(slice1);
+    verify(client).cleanup(slice2);
+  }
+
+  @Test
+  void rethrow_failure_of_fetch() {
+    runInline();
+    IllegalArgumentException failure = new IllegalArgumentException("failed");
+    when(client.search(slice1)).thenThrow(failure);
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1), 1);
+    assertSame(failure, assertThrows(IllegalArgumentException.class, scroll::next));
+  }
+
+  @Test
+  void wrap_error_of_fetch() {
+    runInline();
+    AssertionError error = new AssertionError("failed");
+    when(client.search(slice1)).thenThrow(error);
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1), 1);
+    IllegalStateException exception = assertThrows(IllegalStateException.class, scroll::next);
+    assertEquals("Failed to fetch page of scroll", exception.getMessage());
+    assertSame(error, exception.getCause());
+  }
+
+  @Test
+  void close_ignores_failure_of_fetch() {
+    runInline();
+    when(client.search(slice1)).thenThrow(new IllegalArgumentException("failed"));
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1), 1);
+    scroll.close();
+
+    verify(client).cleanup(slice1);
+  }
+
+  @Test
+  void interrupted_while_waiting_for_page() throws InterruptedException {
+    blockSearchInBackground();
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1), 1);
+    started.await();
+    Thread.currentThread().interrupt();
+    IllegalStateException exception = assertThrows(IllegalStateException.class, scroll::next);
+    assertEquals("Interrupted while fetching page of scroll", exception.getMessage());
+    assertTrue(Thread.interrupted());
+    release.countDown();
+  }
+
+  @Test
+  void interrupted_while_closing() throws InterruptedException {
+    blockSearchInBackground();
+
+    OpenSearchSlicedScroll scroll = new OpenSearchSlicedScroll(client, List.of(slice1), 1);
+    started.await();
+    Thread.currentThread().interrupt();
+    scroll.close();
+    assertTrue(Thread.interrupted());
+    release.countDown();
+
+    verify(client).cleanup(slice1);
+  }
+
+  private void runInline() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(client).execute(any());
+  }
+
+  /**
+   * Run the fetch in another thread and block the search until released.
+   */
+  private void blockSearchInBackground() {
+    when(client.search(slice1)).thenAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return page;
+    });
+    doAnswer(invocation -> {
+      new Thread(invocation.<Runnable>getArgument(0)).start();
+      return null;
+    }).when(client).execute(any());
+  }
+}
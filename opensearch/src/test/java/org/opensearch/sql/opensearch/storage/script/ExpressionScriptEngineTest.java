@@ -11,7 +11,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +30,7 @@ import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
@@ -63,6 +67,32 @@ class ExpressionScriptEngineTest {
     assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
   }
 
+  @Test
+  void can_reuse_deserialized_expression_of_same_script_code() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+
+    Object factory1 = scriptEngine.compile(
+        "test", "test code", FilterScript.CONTEXT, emptyMap());
+    Object factory2 = scriptEngine.compile(
+        "test", "test code", AggregationScript.CONTEXT, emptyMap());
+    assertEquals(new ExpressionFilterScriptFactory(expression), factory1);
+    assertEquals(new ExpressionAggregationScriptFactory(expression), factory2);
+    verify(serializer, times(1)).deserialize("test code");
+  }
+
+  @Test
+  void should_evict_least_recently_used_expression() {
+    when(serializer.deserialize(anyString())).thenReturn(expression);
+
+    for (int i = 0; i <= 100; i++) {
+      scriptEngine.compile("test", "code " + i, FilterScript.CONTEXT, emptyMap());
+    }
+    scriptEngine.compile("test", "code 100", FilterScript.CONTEXT, emptyMap());
+    scriptEngine.compile("test", "code 0", FilterScript.CONTEXT, emptyMap());
+    verify(serializer, times(1)).deserialize("code 100");
+    verify(serializer, times(2)).deserialize("code 0");
+  }
+
   @Test
   void should_throw_exception_for_unsupported_script_context() {
     ScriptContext<?> unknownCtx = mock(ScriptContext.class);
@@ -26,6 +26,7 @@ import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -62,7 +63,8 @@ class ExpressionAggregationScriptFactoryTest {
     AggregationScript actualScript = leafFactory.newInstance(leafReaderContext);
 
     assertEquals(
-        new ExpressionAggregationScript(expression, searchLookup, leafReaderContext, params),
+        new ExpressionAggregationScript(
+            new ExpressionScript(expression), searchLookup, leafReaderContext, params),
         actualScript
     );
   }
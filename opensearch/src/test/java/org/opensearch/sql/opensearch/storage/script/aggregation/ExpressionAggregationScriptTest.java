@@ -12,6 +12,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
@@ -32,8 +35,11 @@ import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -100,6 +106,20 @@ class ExpressionAggregationScriptTest {
         .shouldMatch("30");
   }
 
+  @Test
+  void read_doc_value_into_value_of_field_type() {
+    assertDocValue(ref("age", INTEGER), -1L, integerValue(-1));
+    assertDocValue(ref("balance", FLOAT), 1.5, floatValue(1.5f));
+  }
+
+  private void assertDocValue(ReferenceExpression field, Object docValue, ExprValue expected) {
+    ExprValue actual = new ExpressionScript(field).newExecution(
+        () -> ImmutableMap.of(field.getAttr(), new FakeScriptDocValues<>(docValue)),
+        Expression::valueOf).execute();
+    assertEquals(expected, actual);
+    assertEquals(expected.hashCode(), actual.hashCode());
+  }
+
   private ExprScriptAssertion assertThat() {
     return new ExprScriptAssertion(lookup, leafLookup, context);
   }
@@ -138,7 +158,8 @@ class ExpressionAggregationScriptTest {
 
     ExprScriptAssertion evaluate(Expression expr) {
       ExpressionAggregationScript script =
-          new ExpressionAggregationScript(expr, lookup, context, emptyMap());
+          new ExpressionAggregationScript(
+              new ExpressionScript(expr), lookup, context, emptyMap());
       actual = script.execute();
       return this;
     }
@@ -25,6 +25,7 @@ import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -58,7 +59,8 @@ class ExpressionFilterScriptFactoryTest {
     FilterScript actualFilterScript = leafFactory.newInstance(leafReaderContext);
 
     assertEquals(
-        new ExpressionFilterScript(expression, searchLookup, leafReaderContext, params),
+        new ExpressionFilterScript(
+            new ExpressionScript(expression), searchLookup, leafReaderContext, params),
         actualFilterScript
     );
   }
@@ -15,8 +15,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.DSL.literal;
@@ -40,10 +43,12 @@ import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +88,21 @@ class ExpressionFilterScriptTest {
         .shouldMatch();
   }
 
+  @Test
+  void can_execute_expression_on_multiple_documents() {
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get("age"))
+        .thenReturn(new FakeScriptDocValues<>(30L), new FakeScriptDocValues<>(10L));
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionFilterScript script = new ExpressionFilterScript(
+        new ExpressionScript(DSL.greater(ref("age", INTEGER), literal(20))),
+        lookup, context, emptyMap());
+    Assertions.assertTrue(script.execute());
+    Assertions.assertFalse(script.execute());
+  }
+
   @Test
   void can_execute_expression_with_text_keyword_field() {
     assertThat()
@@ -114,6 +134,28 @@ class ExpressionFilterScriptTest {
         .shouldMatch();
   }
 
+  @Test
+  void can_execute_expression_with_long_and_double_field() {
+    assertThat()
+        .docValues(
+            "id", 10000000000L,
+            "score", 9.5)
+        .filterBy(
+            DSL.and(
+                DSL.greater(ref("id", LONG), literal(100L)),
+                DSL.less(ref("score", DOUBLE), literal(10.0))))
+        .shouldMatch();
+  }
+
+  @Test
+  void can_execute_expression_with_datetime_field() {
+    ExprDatetimeValue dt = new ExprDatetimeValue("2020-08-04 10:00:00");
+    assertThat()
+        .docValues("login", ZonedDateTime.parse("2020-08-04T10:00:00Z"))
+        .filterBy(DSL.equal(ref("login", DATETIME), new LiteralExpression(dt)))
+        .shouldMatch();
+  }
+
   @Test
   void can_execute_expression_with_missing_field() {
     assertThat()
@@ -197,7 +239,8 @@ class ExpressionFilterScriptTest {
     }
 
     ExprScriptAssertion filterBy(Expression expr) {
-      ExpressionFilterScript script = new ExpressionFilterScript(expr, lookup, context, emptyMap());
+      ExpressionFilterScript script = new ExpressionFilterScript(
+          new ExpressionScript(expr), lookup, context, emptyMap());
       isMatched = script.execute();
       return this;
     }
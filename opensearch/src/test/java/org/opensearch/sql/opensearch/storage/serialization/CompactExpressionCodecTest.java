@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CompactExpressionCodecTest {
+
+  private final CompactExpressionCodec codec =
+      new CompactExpressionCodec(BuiltinFunctionRepository.getInstance());
+
+  @Test
+  void cannot_decode_unsupported_version() throws IOException {
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> codec.decode(new byte[] {2, 0}));
+    assertEquals("Unsupported version of expression code: 2", exception.getMessage());
+  }
+
+  @Test
+  void cannot_decode_unknown_expression_tag() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> codec.decode(new byte[] {CompactExpressionCodec.VERSION, 9}));
+    assertEquals("Unknown expression tag: 9", exception.getMessage());
+  }
+
+  @Test
+  void cannot_decode_unsupported_literal_type() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    DataOutputStream dataOutput = new DataOutputStream(output);
+    dataOutput.writeByte(CompactExpressionCodec.VERSION);
+    dataOutput.writeByte(2);
+    dataOutput.writeUTF("DATE");
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> codec.decode(output.toByteArray()));
+    assertEquals("Unsupported literal type: DATE", exception.getMessage());
+  }
+}
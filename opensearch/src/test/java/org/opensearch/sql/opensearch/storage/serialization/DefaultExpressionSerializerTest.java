@@ -8,19 +8,35 @@ package org.opensearch.sql.opensearch.storage.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprTextValue;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class DefaultExpressionSerializerTest {
@@ -55,6 +71,47 @@ class DefaultExpressionSerializerTest {
     assertEquals(original, actual);
   }
 
+  @Test
+  public void can_serialize_functions_in_compact_format() throws IOException {
+    Expression original = DSL.and(
+        DSL.equal(ref("age", INTEGER), literal(30)),
+        DSL.like(ref("name", OPENSEARCH_TEXT), literal("%bob%")));
+    String code = serializer.serialize(original);
+    assertCompactFormat(code);
+    assertEquals(original, serializer.deserialize(code));
+    assertTrue(code.length() < javaSerialize(original).length());
+  }
+
+  @Test
+  public void can_serialize_literals_of_all_types_in_compact_format() {
+    List<Expression> literals = List.of(
+        literal(true), literal((byte) 1), literal((short) 2), literal(3), literal(4L),
+        literal(5.0F), literal(6.0D), literal("str"), literal(LITERAL_NULL),
+        literal(LITERAL_MISSING), ref("object.name", STRING));
+    for (Expression original : literals) {
+      String code = serializer.serialize(original);
+      assertCompactFormat(code);
+      assertEquals(original, serializer.deserialize(code));
+    }
+  }
+
+  @Test
+  public void can_serialize_unsupported_expressions_by_jdk_serialization() {
+    List<Expression> unsupported = List.of(
+        DSL.now(new FunctionProperties()),
+        DSL.cases(literal(1), DSL.when(literal(true), literal(2))),
+        DSL.equal(literal(ExprValueUtils.dateValue(LocalDate.EPOCH)), literal("1970-01-01")),
+        literal(new OpenSearchExprTextValue("text")),
+        literal("a".repeat(70000)),
+        ref("name", FakeType.FAKE),
+        new FakeFunctionExpression(FunctionName.of("abs"), List.of(literal(1))));
+    for (Expression original : unsupported) {
+      String code = serializer.serialize(original);
+      assertEquals((byte) 0xAC, Base64.getDecoder().decode(code)[0]);
+      assertEquals(original, serializer.deserialize(code));
+    }
+  }
+
   @Test
   public void cannot_serialize_illegal_expression() {
     Expression illegalExpr = new Expression() {
@@ -80,6 +137,47 @@ class DefaultExpressionSerializerTest {
   @Test
   public void cannot_deserialize_illegal_expression_code() {
     assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(""));
+  }
+
+  private static void assertCompactFormat(String code) {
+    assertEquals(CompactExpressionCodec.VERSION, Base64.getDecoder().decode(code)[0]);
+  }
+
+  private static String javaSerialize(Expression expr) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expr);
+    objectOutput.flush();
+    return Base64.getEncoder().encodeToString(output.toByteArray());
+  }
+
+  private enum FakeType implements ExprType {
+    FAKE;
+
+    @Override
+    public String typeName() {
+      return "FAKE";
+    }
+  }
+
+  /**
+   * Function expression which is not built by the function repository.
+   */
+  private static class FakeFunctionExpression extends FunctionExpression {
+    FakeFunctionExpression(FunctionName functionName, List<Expression> arguments) {
+      super(functionName, arguments);
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      return getArguments().get(0).valueOf(valueEnv);
+    }
+
+    @Override
+    public ExprType type() {
+      return INTEGER;
+    }
   }
 
 }
@@ -55,6 +55,7 @@ import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasource.DataSourceServiceImpl;
 import org.opensearch.sql.datasource.model.DataSource;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
+import org.opensearch.sql.executor.LogicalPlanCache;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.legacy.metrics.Metrics;
@@ -64,9 +65,11 @@ import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
+import org.opensearch.sql.opensearch.storage.IndexMetadataCache;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 import org.opensearch.sql.plugin.config.OpenSearchPluginConfig;
 import org.opensearch.sql.plugin.datasource.DataSourceSettings;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
@@ -170,6 +173,10 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin, Rel
     dataSourceService.addDataSource(defaultOpenSearchDataSourceMetadata());
     loadDataSources(dataSourceService, clusterService.getSettings());
     LocalClusterState.state().setClusterService(clusterService);
+    IndexMetadataCache.DEFAULT.setClusterService(
+        clusterService, indexNameResolver, threadPool.getThreadContext());
+    // Spill files left by a node stopped in the middle of a query are never deleted otherwise
+    SpillFile.deleteAll(OpenSearchPluginConfig.spillDirectory(nodeEnvironment));
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
 
     this.applicationContext = new AnnotationConfigApplicationContext();
@@ -177,6 +184,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin, Rel
         () -> {
           applicationContext.registerBean(ClusterService.class, () -> clusterService);
           applicationContext.registerBean(NodeClient.class, () -> (NodeClient) client);
+          applicationContext.registerBean(NodeEnvironment.class, () -> nodeEnvironment);
           applicationContext.registerBean(
               org.opensearch.sql.common.setting.Settings.class, () -> pluginSettings);
           applicationContext.registerBean(
@@ -223,6 +231,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin, Rel
     dataSourceService.clear();
     dataSourceService.addDataSource(defaultOpenSearchDataSourceMetadata());
     loadDataSources(dataSourceService, settings);
+    // Plans cached hold the tables and clients of the data sources replaced
+    LogicalPlanCache.DEFAULT.clear();
   }
 
   /**
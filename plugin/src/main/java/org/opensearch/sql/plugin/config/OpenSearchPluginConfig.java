@@ -9,12 +9,16 @@
 
 package org.opensearch.sql.plugin.config;
 
+import java.nio.file.Path;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.LogicalPlanCache;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
@@ -28,9 +32,11 @@ import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
+import org.opensearch.sql.opensearch.storage.IndexMetadataCache;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
+import org.opensearch.sql.planner.physical.spill.SpillConfig;
 import org.opensearch.sql.storage.StorageEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -45,6 +51,11 @@ import org.springframework.context.annotation.Scope;
 @Configuration
 public class OpenSearchPluginConfig {
 
+  private static final String SPILL_DIRECTORY = "sql-spill";
+
+  @Autowired
+  private ClusterService clusterService;
+
   @Autowired
   private NodeClient nodeClient;
 
@@ -54,6 +65,9 @@ public class OpenSearchPluginConfig {
   @Autowired
   private DataSourceService dataSourceService;
 
+  @Autowired
+  private NodeEnvironment nodeEnvironment;
+
   @Bean
   @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
   public OpenSearchClient client() {
@@ -78,10 +92,28 @@ public class OpenSearchPluginConfig {
     return new OpenSearchResourceMonitor(settings, new OpenSearchMemoryHealthy());
   }
 
+  /**
+   * Execution protector which spills large sort and aggregation to the node data path.
+   */
   @Bean
   @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
   public ExecutionProtector protector() {
-    return new OpenSearchExecutionProtector(resourceMonitor());
+    ResourceMonitor resourceMonitor = resourceMonitor();
+    Path spillDirectory = spillDirectory(nodeEnvironment);
+    return new OpenSearchExecutionProtector(resourceMonitor,
+        new SpillConfig(spillDirectory,
+            settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD),
+            resourceMonitor),
+        new SpillConfig(spillDirectory,
+            settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_SPILL_THRESHOLD),
+            resourceMonitor));
+  }
+
+  /**
+   * Directory of the spill files of sort and aggregation, under the first node data path.
+   */
+  public static Path spillDirectory(NodeEnvironment nodeEnvironment) {
+    return nodeEnvironment.nodeDataPaths()[0].resolve(SPILL_DIRECTORY);
   }
 
   /**
@@ -93,7 +125,9 @@ public class OpenSearchPluginConfig {
   }
 
   /**
-   * QueryPlanFactory.
+   * QueryPlanFactory. The logical plans cached are shared across queries until the cluster
+   * metadata, e.g. index mapping or settings, changes. The plan cache is bypassed in a security
+   * context, where the tables analyzed are filtered per user.
    */
   @Bean
   @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
@@ -103,6 +137,8 @@ public class OpenSearchPluginConfig {
         dataSourceService, functionRepository);
     Planner planner =
         new Planner(LogicalPlanOptimizer.create());
-    return new QueryPlanFactory(new QueryService(analyzer, executionEngine(), planner));
+    return new QueryPlanFactory(new QueryService(analyzer, executionEngine(), planner,
+        LogicalPlanCache.DEFAULT, () -> clusterService.state().metadata().version(),
+        () -> !IndexMetadataCache.isSecured(nodeClient.threadPool().getThreadContext())));
   }
 }
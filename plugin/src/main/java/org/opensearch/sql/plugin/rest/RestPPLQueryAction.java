@@ -20,6 +20,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.ActionListener;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -118,7 +119,7 @@ public class RestPPLQueryAction extends BaseRestHandler {
             new ActionListener<>() {
               @Override
               public void onResponse(TransportPPLQueryResponse response) {
-                sendResponse(channel, OK, response.getResult());
+                sendResponse(channel, OK, response.getContent());
               }
 
               @Override
@@ -153,6 +154,10 @@ public class RestPPLQueryAction extends BaseRestHandler {
     channel.sendResponse(new BytesRestResponse(status, "application/json; charset=UTF-8", content));
   }
 
+  private void sendResponse(RestChannel channel, RestStatus status, BytesReference content) {
+    channel.sendResponse(new BytesRestResponse(status, "application/json; charset=UTF-8", content));
+  }
+
   private void reportError(final RestChannel channel, final Exception e, final RestStatus status) {
     channel.sendResponse(
         new BytesRestResponse(
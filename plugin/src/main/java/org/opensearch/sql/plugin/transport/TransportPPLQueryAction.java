@@ -7,6 +7,10 @@ package org.opensearch.sql.plugin.transport;
 
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Optional;
 import org.opensearch.action.ActionListener;
@@ -16,6 +20,7 @@ import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.QueryContext;
@@ -136,9 +141,17 @@ public class TransportPPLQueryAction
     return new ResponseListener<ExecutionEngine.QueryResponse>() {
       @Override
       public void onResponse(ExecutionEngine.QueryResponse response) {
-        String responseContent =
-            formatter.format(new QueryResult(response.getSchema(), response.getResults()));
-        listener.onResponse(new TransportPPLQueryResponse(responseContent));
+        // Write the content to paged byte array directly instead of building a string first
+        BytesStreamOutput output = new BytesStreamOutput();
+        try {
+          Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+          formatter.format(new QueryResult(response.getSchema(), response.getResults()), writer);
+          writer.flush();
+        } catch (IOException e) {
+          listener.onFailure(e);
+          return;
+        }
+        listener.onResponse(new TransportPPLQueryResponse(output.bytes()));
       }
 
       @Override
@@ -9,7 +9,6 @@ package org.opensearch.sql.ppl;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -18,6 +17,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
@@ -30,7 +30,6 @@ import org.opensearch.sql.ppl.utils.PPLQueryDataAnonymizer;
 /**
  * PPLService.
  */
-@RequiredArgsConstructor
 public class PPLService {
   private final PPLSyntaxParser parser;
 
@@ -38,10 +37,32 @@ public class PPLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  private final StatementCache statementCache;
+
   private final PPLQueryDataAnonymizer anonymizer = new PPLQueryDataAnonymizer();
 
   private static final Logger LOG = LogManager.getLogger();
 
+  /**
+   * Create service with a cache of statements of its own.
+   */
+  public PPLService(PPLSyntaxParser parser, QueryManager queryManager,
+      QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory,
+        new StatementCache(StatementCache.DEFAULT_CAPACITY));
+  }
+
+  /**
+   * Create service with the statement cache given, which is shared across requests.
+   */
+  public PPLService(PPLSyntaxParser parser, QueryManager queryManager,
+      QueryPlanFactory queryExecutionFactory, StatementCache statementCache) {
+    this.parser = parser;
+    this.queryManager = queryManager;
+    this.queryExecutionFactory = queryExecutionFactory;
+    this.statementCache = statementCache;
+  }
+
   /**
    * Execute the {@link PPLQueryRequest}, using {@link ResponseListener} to get response.
    *
@@ -75,15 +96,17 @@ public class PPLService {
       PPLQueryRequest request,
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
-    // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.parse(request.getRequest());
-    Statement statement =
-        cst.accept(
-            new AstStatementBuilder(
-                new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
-                AstStatementBuilder.StatementBuilderContext.builder()
-                    .isExplain(request.isExplainRequest())
-                    .build()));
+    // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST), which is cached
+    Statement statement = statementCache.get(request.getRequest(), request.isExplainRequest(),
+        () -> {
+          ParseTree cst = parser.parse(request.getRequest());
+          return cst.accept(
+              new AstStatementBuilder(
+                  new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
+                  AstStatementBuilder.StatementBuilderContext.builder()
+                      .isExplain(request.isExplainRequest())
+                      .build()));
+        });
 
     LOG.info(
         "[{}] Incoming request {}",
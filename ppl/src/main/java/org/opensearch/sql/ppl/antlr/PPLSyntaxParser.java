@@ -11,7 +11,7 @@ import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.Parser;
-import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLLexer;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
 
@@ -20,13 +20,12 @@ import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
  */
 public class PPLSyntaxParser implements Parser {
   /**
-   * Analyze the query syntax.
+   * Analyze the query syntax in SLL prediction mode first and LL only if it fails.
    */
   @Override
   public ParseTree parse(String query) {
     OpenSearchPPLParser parser = createParser(createLexer(query));
-    parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    return parser.root();
+    return TwoStageParser.parse(parser, OpenSearchPPLParser::root);
   }
 
   private OpenSearchPPLParser createParser(Lexer lexer) {
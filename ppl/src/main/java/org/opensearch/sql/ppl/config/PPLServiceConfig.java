@@ -7,6 +7,7 @@
 package org.opensearch.sql.ppl.config;
 
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
@@ -34,7 +35,8 @@ public class PPLServiceConfig {
   @Bean
   @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
   public PPLService pplService() {
-    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory);
+    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory,
+        StatementCache.PPL);
   }
 
 }
@@ -8,6 +8,9 @@ package org.opensearch.sql.ppl;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
@@ -29,6 +32,7 @@ import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.config.PPLServiceConfig;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.storage.StorageEngine;
@@ -217,4 +221,24 @@ public class PPLServiceTest {
           }
         });
   }
+
+  @Test
+  public void testParseSameQueryOnlyOnce() {
+    PPLSyntaxParser parser = spy(new PPLSyntaxParser());
+    PPLService service = new PPLService(parser, queryManager, new QueryPlanFactory(queryService));
+    ResponseListener<QueryResponse> listener = new ResponseListener<>() {
+      @Override
+      public void onResponse(QueryResponse pplQueryResponse) {
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        Assert.fail();
+      }
+    };
+
+    service.execute(new PPLQueryRequest("search source=t a=1", null, QUERY), listener);
+    service.execute(new PPLQueryRequest(" search source=t a=1 ", null, QUERY), listener);
+    verify(parser, times(1)).parse(any());
+  }
 }
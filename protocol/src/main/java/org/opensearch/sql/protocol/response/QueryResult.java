@@ -6,6 +6,7 @@
 
 package org.opensearch.sql.protocol.response;
 
+import com.google.common.collect.Iterables;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -55,6 +56,16 @@ public class QueryResult implements Iterable<Object[]> {
     return colNameTypes;
   }
 
+  /**
+   * Values of each result row in the order of columns, which formatters can write directly
+   * instead of converting them to Java objects as {@link #iterator()} does.
+   *
+   * @return values of each row
+   */
+  public Iterable<Collection<ExprValue>> rowValues() {
+    return Iterables.transform(exprValues, row -> ExprValueUtils.getTupleValue(row).values());
+  }
+
   @Override
   public Iterator<Object[]> iterator() {
     // Any chance to avoid copy for json response generation?
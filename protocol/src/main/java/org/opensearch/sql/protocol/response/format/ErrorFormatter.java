@@ -17,12 +17,12 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class ErrorFormatter {
 
-  private static final Gson PRETTY_PRINT_GSON = AccessController.doPrivileged(
+  static final Gson PRETTY_PRINT_GSON = AccessController.doPrivileged(
           (PrivilegedAction<Gson>) () -> new GsonBuilder()
               .setPrettyPrinting()
               .disableHtmlEscaping()
               .create());
-  private static final Gson GSON = AccessController.doPrivileged(
+  static final Gson GSON = AccessController.doPrivileged(
       (PrivilegedAction<Gson>) () -> new GsonBuilder().disableHtmlEscaping().create());
 
   /**
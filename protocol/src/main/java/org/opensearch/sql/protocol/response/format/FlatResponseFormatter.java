@@ -6,15 +6,21 @@
 
 package org.opensearch.sql.protocol.response.format;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 @RequiredArgsConstructor
@@ -36,6 +42,16 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     return result.getFlat();
   }
 
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    FlatResult result = new FlatResult(response, sanitize);
+    writer.write(result.getHeaderLine());
+    for (Iterator<String> lines = result.getDataLines().iterator(); lines.hasNext(); ) {
+      writer.write(INTERLINE_SEPARATOR);
+      writer.write(lines.next());
+    }
+  }
+
   @Override
   public String format(Throwable t) {
     return ErrorFormatter.prettyFormat(t);
@@ -53,74 +69,45 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     private final boolean sanitize;
 
     public String getFlat() {
-      List<String> headersAndData = new ArrayList<>();
-      headersAndData.add(getHeaderLine(response, sanitize));
-      headersAndData.addAll(getDataLines(response, sanitize));
-      return String.join(INTERLINE_SEPARATOR, headersAndData);
+      return Stream.concat(Stream.of(getHeaderLine()), getDataLines())
+          .collect(Collectors.joining(INTERLINE_SEPARATOR));
     }
 
-    private String getHeaderLine(QueryResult response, boolean sanitize) {
-      List<String> headers = getHeaders(response, sanitize);
+    /**
+     * Header line of column names.
+     */
+    String getHeaderLine() {
+      List<String> headers = new ArrayList<>();
+      response.columnNameTypes().forEach((column, type) -> headers.add(formatCell(column)));
       return String.join(INLINE_SEPARATOR, headers);
     }
 
-    private List<String> getDataLines(QueryResult response, boolean sanitize) {
-      List<List<String>> data = getData(response, sanitize);
-      return data.stream().map(v -> String.join(INLINE_SEPARATOR, v)).collect(Collectors.toList());
-    }
-
-    private List<String> getHeaders(QueryResult response, boolean sanitize) {
-      ImmutableList.Builder<String> headers = ImmutableList.builder();
-      response.columnNameTypes().forEach((column, type) -> headers.add(column));
-      List<String> result = headers.build();
-      return sanitizeHeaders(result);
+    /**
+     * Data lines which are formatted lazily one by one when consumed.
+     */
+    Stream<String> getDataLines() {
+      return StreamSupport.stream(response.rowValues().spliterator(), false)
+          .map(this::getDataLine);
     }
 
-    private List<List<String>> getData(QueryResult response, boolean sanitize) {
-      ImmutableList.Builder<List<String>> dataLines = new ImmutableList.Builder<>();
-      response.iterator().forEachRemaining(row -> {
-        ImmutableList.Builder<String> line = new ImmutableList.Builder<>();
-        // replace null values with empty string
-        Arrays.asList(row).forEach(val -> line.add(val == null ? "" : val.toString()));
-        dataLines.add(line.build());
-      });
-      List<List<String>> result = dataLines.build();
-      return sanitizeData(result);
+    private String getDataLine(Collection<ExprValue> row) {
+      StringJoiner line = new StringJoiner(INLINE_SEPARATOR);
+      for (ExprValue value : row) {
+        line.add(formatCell(getCell(value)));
+      }
+      return line.toString();
     }
 
-    /**
-     * Sanitize headers because OpenSearch allows special character present in field names.
-     */
-    private List<String> sanitizeHeaders(List<String> headers) {
-      if (sanitize) {
-        return headers.stream()
-                .map(this::sanitizeCell)
-                .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                .collect(Collectors.toList());
-      } else {
-        return headers.stream()
-                .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                .collect(Collectors.toList());
+    private String getCell(ExprValue value) {
+      // replace null values with empty string
+      if (value.isNull() || value.isMissing()) {
+        return "";
       }
+      return value.value().toString();
     }
 
-    private List<List<String>> sanitizeData(List<List<String>> lines) {
-      List<List<String>> result = new ArrayList<>();
-      if (sanitize) {
-        for (List<String> line : lines) {
-          result.add(line.stream()
-                  .map(this::sanitizeCell)
-                  .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                  .collect(Collectors.toList()));
-        }
-      } else {
-        for (List<String> line : lines) {
-          result.add(line.stream()
-                  .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                  .collect(Collectors.toList()));
-        }
-      }
-      return result;
+    private String formatCell(String cell) {
+      return quoteIfRequired(INLINE_SEPARATOR, sanitize ? sanitizeCell(cell) : cell);
     }
 
     private String sanitizeCell(String cell) {
@@ -133,11 +120,16 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     private String quoteIfRequired(String separator, String cell) {
       final String quote = "\"";
       return cell.contains(separator)
-              ? quote + cell.replaceAll("\"", "\"\"") + quote : cell;
+              ? quote + cell.replace("\"", "\"\"") + quote : cell;
     }
 
     private boolean isStartWithSensitiveChar(String cell) {
-      return SENSITIVE_CHAR.stream().anyMatch(cell::startsWith);
+      for (String sensitiveChar : SENSITIVE_CHAR) {
+        if (cell.startsWith(sensitiveChar)) {
+          return true;
+        }
+      }
+      return false;
     }
   }
 
@@ -6,6 +6,9 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -46,6 +49,21 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return json.build();
   }
 
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    JsonWriter json = jsonWriter(writer);
+    json.beginObject();
+    json.name("schema").beginArray();
+    response.getSchema().getColumns().forEach(col -> writeJson(json, fetchColumn(col)));
+    json.endArray();
+    json.name("datarows");
+    writeDataRows(json, response);
+    json.name("total").value(response.size());
+    json.name("size").value(response.size());
+    json.name("status").value(200);
+    json.endObject();
+  }
+
   @Override
   public String format(Throwable t) {
     int status = getStatus(t);
@@ -6,15 +6,27 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import static org.opensearch.sql.protocol.response.format.ErrorFormatter.GSON;
+import static org.opensearch.sql.protocol.response.format.ErrorFormatter.PRETTY_PRINT_GSON;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.compactFormat;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.compactJsonify;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyFormat;
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
  * Abstract class for all JSON formatter.
@@ -41,6 +53,15 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     return jsonify(buildJsonObject(response));
   }
 
+  @Override
+  public void format(R response, Writer writer) throws IOException {
+    Object jsonObject = buildJsonObject(response);
+    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+      gson().toJson(jsonObject, writer);
+      return null;
+    });
+  }
+
   @Override
   public String format(Throwable t) {
     return AccessController.doPrivileged((PrivilegedAction<String>) () ->
@@ -59,4 +80,110 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     return AccessController.doPrivileged((PrivilegedAction<String>) () ->
         (style == PRETTY) ? prettyJsonify(jsonObject) : compactJsonify(jsonObject));
   }
+
+  /**
+   * Create JSON writer in the format style to write response incrementally.
+   *
+   * @param writer writer for response content
+   * @return JSON writer
+   */
+  protected JsonWriter jsonWriter(Writer writer) throws IOException {
+    return gson().newJsonWriter(writer);
+  }
+
+  /**
+   * Write JSON object as the next value of the JSON writer.
+   *
+   * @param writer     JSON writer
+   * @param jsonObject json object
+   */
+  protected void writeJson(JsonWriter writer, Object jsonObject) {
+    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+      gson().toJson(jsonObject, jsonObject.getClass(), writer);
+      return null;
+    });
+  }
+
+  /**
+   * Write data rows of the query result one by one as a JSON array. The values are written
+   * directly by their types instead of being converted to Java objects and serialized by Gson.
+   *
+   * @param writer   JSON writer
+   * @param response query result
+   */
+  protected void writeDataRows(JsonWriter writer, QueryResult response) throws IOException {
+    writer.beginArray();
+    for (Collection<ExprValue> row : response.rowValues()) {
+      writer.beginArray();
+      for (ExprValue value : row) {
+        writeValue(writer, value);
+      }
+      writer.endArray();
+    }
+    writer.endArray();
+  }
+
+  /**
+   * Write expression value as the next value of the JSON writer, in the same way as Gson
+   * serializes the Java object of {@link ExprValue#value()}.
+   *
+   * @param writer JSON writer
+   * @param value  expression value
+   */
+  private void writeValue(JsonWriter writer, ExprValue value) throws IOException {
+    if (value.isNull() || value.isMissing()) {
+      writer.nullValue();
+    } else if (value.isNumber()) {
+      writeNumber(writer, (Number) value.value());
+    } else if (value.type() == ExprCoreType.BOOLEAN) {
+      writer.value(value.booleanValue());
+    } else if (value.type() == ExprCoreType.STRUCT) {
+      writeTuple(writer, value.tupleValue());
+    } else if (value.type() == ExprCoreType.ARRAY) {
+      writeCollection(writer, value.collectionValue());
+    } else {
+      writeObject(writer, value.value());
+    }
+  }
+
+  private void writeNumber(JsonWriter writer, Number number) throws IOException {
+    double doubleValue = number.doubleValue();
+    if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+      // Not a valid JSON number, which is rejected by Gson in the same way
+      writeJson(writer, number);
+    } else {
+      writer.value(number);
+    }
+  }
+
+  private void writeTuple(JsonWriter writer, Map<String, ExprValue> tuple) throws IOException {
+    writer.beginObject();
+    for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+      // Field of null value is skipped by writer as Gson does
+      writer.name(entry.getKey());
+      writeValue(writer, entry.getValue());
+    }
+    writer.endObject();
+  }
+
+  private void writeCollection(JsonWriter writer, List<ExprValue> collection)
+      throws IOException {
+    writer.beginArray();
+    for (ExprValue value : collection) {
+      writeValue(writer, value);
+    }
+    writer.endArray();
+  }
+
+  private void writeObject(JsonWriter writer, Object object) throws IOException {
+    if (object instanceof String) {
+      writer.value((String) object);
+    } else {
+      writeJson(writer, object);
+    }
+  }
+
+  private Gson gson() {
+    return (style == PRETTY) ? PRETTY_PRINT_GSON : GSON;
+  }
 }
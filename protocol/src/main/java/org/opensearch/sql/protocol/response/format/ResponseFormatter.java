@@ -6,6 +6,9 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Response formatter to format response to different formats.
  */
@@ -19,6 +22,15 @@ public interface ResponseFormatter<R> {
    */
   String format(R response);
 
+  /**
+   * Format response in expected format and write the content to the writer incrementally,
+   * instead of building the whole content as a string in memory.
+   *
+   * @param response response
+   * @param writer   writer for response content, which is flushed by caller
+   */
+  void format(R response, Writer writer) throws IOException;
+
   /**
    * Format an exception into string.
    *
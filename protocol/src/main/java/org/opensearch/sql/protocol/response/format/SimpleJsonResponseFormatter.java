@@ -6,6 +6,9 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -52,6 +55,20 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     return json.build();
   }
 
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    JsonWriter json = jsonWriter(writer);
+    json.beginObject();
+    json.name("schema").beginArray();
+    response.columnNameTypes().forEach((name, type) -> writeJson(json, new Column(name, type)));
+    json.endArray();
+    json.name("datarows");
+    writeDataRows(json, response);
+    json.name("total").value(response.size());
+    json.name("size").value(response.size());
+    json.endObject();
+  }
+
   private Object[][] fetchDataRows(QueryResult response) {
     Object[][] rows = new Object[response.size()][];
     int i = 0;
@@ -9,15 +9,20 @@ package org.opensearch.sql.protocol.response;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 
 class QueryResultTest {
@@ -115,4 +120,22 @@ class QueryResultTest {
     }
   }
 
+  @Test
+  void iterateRowValues() {
+    QueryResult response = new QueryResult(
+        schema,
+        Arrays.asList(
+            tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+            tupleValue(ImmutableMap.of("name", "Allen", "age", 30))
+        ));
+
+    List<List<ExprValue>> rows = new ArrayList<>();
+    response.rowValues().forEach(row -> rows.add(new ArrayList<>(row)));
+    assertEquals(
+        Arrays.asList(
+            Arrays.asList(stringValue("John"), integerValue(20)),
+            Arrays.asList(stringValue("Allen"), integerValue(30))),
+        rows);
+  }
+
 }
@@ -17,6 +17,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -130,4 +132,18 @@ public class CsvResponseFormatterTest {
     assertEquals(format(expected), formatter.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("name", "name", STRING),
+        new ExecutionEngine.Schema.Column("city", "city", STRING)));
+    QueryResult response = new QueryResult(schema, Arrays.asList(
+        tupleValue(ImmutableMap.of("name", "John", "city", "=Seattle")),
+        tupleValue(ImmutableMap.of("name", "Smith", "city", "Seattle,WA"))));
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(format("name,city%nJohn,'=Seattle%nSmith,\"Seattle,WA\""), writer.toString());
+    assertEquals(formatter.format(response), writer.toString());
+  }
+
 }
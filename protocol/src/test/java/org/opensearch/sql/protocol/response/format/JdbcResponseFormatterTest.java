@@ -7,23 +7,44 @@
 package org.opensearch.sql.protocol.response.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.booleanValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.byteValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.dateValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.shortValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DATE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.executor.ExecutionEngine.Schema;
 import static org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
+import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_GEO_POINT;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
 import java.util.Arrays;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -31,7 +52,9 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprGeoPointValue;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -170,4 +193,78 @@ class JdbcResponseFormatterTest {
         JsonParser.parseString(actual));
   }
 
+  @Test
+  void format_response_to_writer() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            new Schema(ImmutableList.of(
+                new Column("name", null, STRING),
+                new Column("location", "loc", STRUCT))),
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("name", "John", "location", ImmutableMap.of("x", "1"))),
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of("name", LITERAL_NULL, "location", LITERAL_MISSING))));
+
+    for (JdbcResponseFormatter formatter :
+        ImmutableList.of(this.formatter, new JdbcResponseFormatter(PRETTY))) {
+      StringWriter writer = new StringWriter();
+      formatter.format(response, writer);
+      assertEquals(formatter.format(response), writer.toString());
+    }
+  }
+
+  @Test
+  void format_values_of_all_types_to_writer_same_as_gson() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            new Schema(ImmutableList.of(
+                new Column("bool", null, BOOLEAN),
+                new Column("byte", null, BYTE),
+                new Column("short", null, SHORT),
+                new Column("long", null, LONG),
+                new Column("float", null, FLOAT),
+                new Column("double", null, DOUBLE),
+                new Column("date", null, DATE),
+                new Column("array", null, ARRAY),
+                new Column("struct", null, STRUCT),
+                new Column("geo", null, OPENSEARCH_GEO_POINT))),
+            Arrays.asList(
+                tupleValue(ImmutableMap.<String, Object>builder()
+                    .put("bool", booleanValue(true))
+                    .put("byte", byteValue((byte) 1))
+                    .put("short", shortValue((short) 2))
+                    .put("long", longValue(3L))
+                    .put("float", floatValue(1.1f))
+                    .put("double", doubleValue(2.5))
+                    .put("date", dateValue(LocalDate.of(2020, 1, 1)))
+                    .put("array", collectionValue(Arrays.asList(1, "a", null)))
+                    .put("struct", ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+                        "x", stringValue("\"quoted\" <b>"),
+                        "y", LITERAL_NULL,
+                        "z", ExprTupleValue.fromExprValueMap(
+                            ImmutableMap.of("w", LITERAL_MISSING)))))
+                    .put("geo", new OpenSearchExprGeoPointValue(47.6, -122.3))
+                    .build())));
+
+    for (JdbcResponseFormatter formatter :
+        ImmutableList.of(this.formatter, new JdbcResponseFormatter(PRETTY))) {
+      StringWriter writer = new StringWriter();
+      formatter.format(response, writer);
+      assertEquals(formatter.format(response), writer.toString());
+    }
+
+    for (ExprValue number : ImmutableList.of(doubleValue(Double.NaN),
+        doubleValue(Double.POSITIVE_INFINITY), doubleValue(Double.NEGATIVE_INFINITY),
+        floatValue(Float.NaN))) {
+      QueryResult invalid = new QueryResult(
+          new Schema(ImmutableList.of(new Column("number", null, number.type()))),
+          Arrays.asList(tupleValue(ImmutableMap.of("number", number))));
+      IllegalArgumentException expected =
+          assertThrows(IllegalArgumentException.class, () -> formatter.format(invalid));
+      IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+          () -> formatter.format(invalid, new StringWriter()));
+      assertEquals(expected.getMessage(), actual.getMessage());
+    }
+  }
+
 }
@@ -17,6 +17,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -156,4 +158,27 @@ public class RawResponseFormatterTest {
     assertEquals(format(expected), rawFormater.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("name", "name", STRING),
+        new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    QueryResult response = new QueryResult(schema, Arrays.asList(
+        tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+        tupleValue(ImmutableMap.of("name", "Smith", "age", 30))));
+    StringWriter writer = new StringWriter();
+    rawFormater.format(response, writer);
+    assertEquals(format("name|age%nJohn|20%nSmith|30"), writer.toString());
+  }
+
+  @Test
+  void formatEmptyResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("name", "name", STRING)));
+    QueryResult response = new QueryResult(schema, ImmutableList.of());
+    StringWriter writer = new StringWriter();
+    rawFormater.format(response, writer);
+    assertEquals("name", writer.toString());
+  }
+
 }
@@ -17,6 +17,8 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -172,4 +174,22 @@ class SimpleJsonResponseFormatterTest {
             + "}",
         formatter.format(new RuntimeException("This is an exception")));
   }
+
+  @Test
+  void formatResponseToWriter() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            schema,
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("firstname", "John", "age", 20)),
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of("firstname", stringValue("Smith"), "age", LITERAL_MISSING))));
+    for (JsonResponseFormatter.Style style : JsonResponseFormatter.Style.values()) {
+      SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(style);
+      StringWriter writer = new StringWriter();
+      formatter.format(response, writer);
+      assertEquals(formatter.format(response), writer.toString());
+    }
+  }
+
 }
@@ -15,6 +15,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
@@ -182,6 +184,19 @@ public class VisualizationResponseFormatterTest {
     );
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    QueryResult response = new QueryResult(
+        new ExecutionEngine.Schema(ImmutableList.of(
+            new ExecutionEngine.Schema.Column("name", "name", STRING),
+            new ExecutionEngine.Schema.Column("age", "age", INTEGER))),
+        ImmutableList.of(tupleValue(ImmutableMap.of("name", "John", "age", 20))));
+
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(formatter.format(response), writer.toString());
+  }
+
   private static void assertJsonEquals(String expected, String actual) {
     assertEquals(
         JsonParser.parseString(expected),
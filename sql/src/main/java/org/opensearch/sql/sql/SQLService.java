@@ -7,13 +7,13 @@
 package org.opensearch.sql.sql;
 
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
@@ -24,7 +24,6 @@ import org.opensearch.sql.sql.parser.AstStatementBuilder;
 /**
  * SQL service.
  */
-@RequiredArgsConstructor
 public class SQLService {
 
   private final SQLSyntaxParser parser;
@@ -33,6 +32,28 @@ public class SQLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  private final StatementCache statementCache;
+
+  /**
+   * Create service with a cache of statements of its own.
+   */
+  public SQLService(SQLSyntaxParser parser, QueryManager queryManager,
+      QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory,
+        new StatementCache(StatementCache.DEFAULT_CAPACITY));
+  }
+
+  /**
+   * Create service with the statement cache given, which is shared across requests.
+   */
+  public SQLService(SQLSyntaxParser parser, QueryManager queryManager,
+      QueryPlanFactory queryExecutionFactory, StatementCache statementCache) {
+    this.parser = parser;
+    this.queryManager = queryManager;
+    this.queryExecutionFactory = queryExecutionFactory;
+    this.statementCache = statementCache;
+  }
+
   /**
    * Given {@link SQLQueryRequest}, execute it. Using listener to listen result.
    *
@@ -65,15 +86,17 @@ public class SQLService {
       SQLQueryRequest request,
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
-    // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.parse(request.getQuery());
-    Statement statement =
-        cst.accept(
-            new AstStatementBuilder(
-                new AstBuilder(request.getQuery()),
-                AstStatementBuilder.StatementBuilderContext.builder()
-                    .isExplain(request.isExplainRequest())
-                    .build()));
+    // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST), which is cached
+    Statement statement = statementCache.get(request.getQuery(), request.isExplainRequest(),
+        () -> {
+          ParseTree cst = parser.parse(request.getQuery());
+          return cst.accept(
+              new AstStatementBuilder(
+                  new AstBuilder(request.getQuery()),
+                  AstStatementBuilder.StatementBuilderContext.builder()
+                      .isExplain(request.isExplainRequest())
+                      .build()));
+        });
 
     return queryExecutionFactory.create(statement, queryListener, explainListener);
   }
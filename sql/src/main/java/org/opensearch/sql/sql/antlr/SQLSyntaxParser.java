@@ -10,7 +10,7 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.Parser;
-import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
@@ -20,7 +20,7 @@ import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 public class SQLSyntaxParser implements Parser {
 
   /**
-   * Parse a SQL query by ANTLR parser.
+   * Parse a SQL query by ANTLR parser in SLL prediction mode first and LL only if it fails.
    * @param query   a SQL query
    * @return        parse tree root
    */
@@ -28,8 +28,7 @@ public class SQLSyntaxParser implements Parser {
   public ParseTree parse(String query) {
     OpenSearchSQLLexer lexer = new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query));
     OpenSearchSQLParser parser = new OpenSearchSQLParser(new CommonTokenStream(lexer));
-    parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    return parser.root();
+    return TwoStageParser.parse(parser, OpenSearchSQLParser::root);
   }
 
 }
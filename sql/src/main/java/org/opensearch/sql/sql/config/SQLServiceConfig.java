@@ -7,6 +7,7 @@
 package org.opensearch.sql.sql.config;
 
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
@@ -40,7 +41,8 @@ public class SQLServiceConfig {
     return new SQLService(
         new SQLSyntaxParser(),
         queryManager,
-        queryExecutionFactory);
+        queryExecutionFactory,
+        StatementCache.SQL);
   }
 
 }
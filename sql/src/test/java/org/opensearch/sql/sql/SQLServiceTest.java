@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.Collections;
@@ -29,6 +32,7 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -169,4 +173,24 @@ class SQLServiceTest {
         });
   }
 
+
+  @Test
+  public void canParseSameQueryOnlyOnce() {
+    SQLSyntaxParser parser = spy(new SQLSyntaxParser());
+    SQLService service = new SQLService(parser, queryManager, new QueryPlanFactory(queryService));
+    ResponseListener<QueryResponse> listener = new ResponseListener<>() {
+      @Override
+      public void onResponse(QueryResponse response) {
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fail(e);
+      }
+    };
+
+    service.execute(new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"), listener);
+    service.execute(new SQLQueryRequest(new JSONObject(), "SELECT 123 ", QUERY, "jdbc"), listener);
+    verify(parser, times(1)).parse(any());
+  }
 }